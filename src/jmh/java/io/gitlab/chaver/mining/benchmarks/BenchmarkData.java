@@ -0,0 +1,41 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.benchmarks;
+
+import io.gitlab.chaver.mining.patterns.io.DatReader;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.util.MISCalculator;
+
+import java.io.IOException;
+
+/**
+ * Data shared by the benchmarks : the datasets are read from the data/ directory of the project (see the parameter
+ * dataDir of each benchmark)
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {}
+
+    static String path(String dataDir, String dataset) {
+        return dataDir + dataset + ".dat";
+    }
+
+    static TransactionalDatabase read(String dataDir, String dataset) throws IOException {
+        return new DatReader(path(dataDir, dataset), 0, true).read();
+    }
+
+    /**
+     * MIS of the items, MIS_min is given relatively to the number of transactions
+     */
+    static int[] mis(TransactionalDatabase database, double beta, double minSupport) {
+        int misMin = (int) Math.ceil(minSupport * database.getNbTransactions());
+        return new MISCalculator(database, beta, misMin).computeMIS();
+    }
+}
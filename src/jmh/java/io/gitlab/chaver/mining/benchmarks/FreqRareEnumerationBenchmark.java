@@ -0,0 +1,77 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.benchmarks;
+
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.search.strategy.selectors.variables.MinMis;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMax;
+import org.chocosolver.solver.variables.BoolVar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to enumerate all the FreqRare patterns (the model is built by each operation, the database is read once).
+ * The default values of MIS_min are high enough to enumerate the dense datasets (chess, anneal) in a few seconds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class FreqRareEnumerationBenchmark {
+
+    @Param({"contextPasquier99", "mushroom", "chess", "anneal"})
+    public String dataset;
+    @Param({"0.2", "0.5"})
+    public double beta;
+    /** MIS_min relatively to the number of transactions */
+    @Param({"0.7", "0.9"})
+    public double minSupport;
+    @Param({"factory", "map", "horizontal"})
+    public FreqRareImplementation implementation;
+    @Param("data/")
+    public String dataDir;
+
+    private TransactionalDatabase database;
+    private int[] mis;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkData.read(dataDir, dataset);
+        mis = BenchmarkData.mis(database, beta, minSupport);
+    }
+
+    @Benchmark
+    public long enumerate() {
+        Model model = new Model("FreqRare enumeration");
+        BoolVar[] items = model.boolVarArray("x", database.getNbItems());
+        model.post(implementation.create(database, items, mis));
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.intVarSearch(new MinMis(model, database, mis), new IntDomainMax(), items));
+        while (solver.solve());
+        return solver.getSolutionCount();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.benchmarks;
+
+import io.gitlab.chaver.mining.patterns.constraints.FreqRareConstraint;
+import io.gitlab.chaver.mining.patterns.constraints.PropFreqRare;
+import io.gitlab.chaver.mining.patterns.constraints.factory.ConstraintFactory;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.variables.BoolVar;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implementations of the FreqRare constraint compared by the benchmarks
+ */
+public enum FreqRareImplementation {
+
+    /** ConstraintFactory.freqRare (PropFreqRareCover on the database) */
+    factory {
+        @Override
+        public Constraint create(TransactionalDatabase database, BoolVar[] items, int[] mis) {
+            return ConstraintFactory.freqRare(database, items, mis);
+        }
+    },
+    /** FreqRareConstraint (covers given by a map) */
+    map {
+        @Override
+        public Constraint create(TransactionalDatabase database, BoolVar[] items, int[] mis) {
+            Map<Integer, BitSet> itemCovers = new HashMap<>();
+            for (int i = 0; i < database.getNbItems(); i++) {
+                itemCovers.put(i, database.getCover(i));
+            }
+            return new FreqRareConstraint("FreqRare", items, mis, itemCovers, database.getNbTransactions());
+        }
+    },
+    /** PropFreqRare (transactions given in horizontal format) */
+    horizontal {
+        @Override
+        public Constraint create(TransactionalDatabase database, BoolVar[] items, int[] mis) {
+            return new Constraint("FreqRare", new PropFreqRare(items, mis, toTransactions(database)));
+        }
+    };
+
+    /**
+     * Create the FreqRare constraint
+     * @param database database
+     * @param items x
+     * @param mis minimum item support of each item
+     * @return the constraint (its first propagator is the FreqRare one)
+     */
+    public abstract Constraint create(TransactionalDatabase database, BoolVar[] items, int[] mis);
+
+    /**
+     * @return the indices of the items of each transaction
+     */
+    private static int[][] toTransactions(TransactionalDatabase database) {
+        int[] sizes = new int[database.getNbTransactions()];
+        BitSet[] covers = database.getVerticalRepresentation();
+        for (BitSet cover : covers) {
+            cover.stream().forEach(t -> sizes[t]++);
+        }
+        int[][] transactions = new int[sizes.length][];
+        for (int t = 0; t < sizes.length; t++) {
+            transactions[t] = new int[sizes[t]];
+            sizes[t] = 0;
+        }
+        for (int i = 0; i < covers.length; i++) {
+            for (int t = covers[i].nextSetBit(0); t >= 0; t = covers[i].nextSetBit(t + 1)) {
+                transactions[t][sizes[t]++] = i;
+            }
+        }
+        return transactions;
+    }
+}
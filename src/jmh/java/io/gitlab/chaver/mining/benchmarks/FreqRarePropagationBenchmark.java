@@ -0,0 +1,107 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.benchmarks;
+
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.util.ConstraintSettings;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of the FreqRare propagation : each operation instantiates one item to 1 after the root propagation,
+ * propagates and backtracks. The items are taken in turn among the items which can be instantiated to 1 without
+ * failure (i.e. freq(i) &ge; MIS(i)), starting from the most frequent ones.
+ * Run with -prof gc to get the allocation rate of the propagation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FreqRarePropagationBenchmark {
+
+    @Param({"contextPasquier99", "mushroom", "chess", "anneal"})
+    public String dataset;
+    @Param({"0.2", "0.5"})
+    public double beta;
+    /** MIS_min relatively to the number of transactions */
+    @Param({"0.05", "0.3"})
+    public double minSupport;
+    @Param({"factory", "map", "horizontal"})
+    public FreqRareImplementation implementation;
+    /** Representation of the covers of the factory implementation (see BitSetFactory) */
+    @Param({"sparse", "roaring"})
+    public String bitSet;
+    @Param("data/")
+    public String dataDir;
+
+    private IEnvironment environment;
+    private Solver solver;
+    private BoolVar[] items;
+    private int[] order; // items which can be instantiated to 1
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        TransactionalDatabase database = BenchmarkData.read(dataDir, dataset);
+        int[] mis = BenchmarkData.mis(database, beta, minSupport);
+        int[] itemFreq = database.computeItemFreq();
+        ConstraintSettings.BITSET_TYPE = bitSet;
+        Model model = new Model("FreqRare propagation");
+        items = model.boolVarArray("x", database.getNbItems());
+        model.post(implementation.create(database, items, mis));
+        solver = model.getSolver();
+        environment = model.getEnvironment();
+        solver.propagate();
+        order = IntStream
+                .range(0, items.length)
+                .filter(i -> !items[i].isInstantiated() && itemFreq[i] >= mis[i])
+                .boxed()
+                .sorted(Comparator.comparingInt(i -> -itemFreq[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        if (order.length == 0) {
+            throw new IllegalStateException("No item can be instantiated to 1 for these parameters");
+        }
+    }
+
+    @Benchmark
+    public boolean propagate() throws ContradictionException {
+        int item = order[next];
+        next = next + 1 == order.length ? 0 : next + 1;
+        environment.worldPush();
+        items[item].setToTrue(Cause.Null);
+        solver.propagate();
+        boolean instantiated = items[item].isInstantiatedTo(1);
+        environment.worldPop();
+        return instantiated;
+    }
+}
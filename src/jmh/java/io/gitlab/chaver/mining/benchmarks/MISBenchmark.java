@@ -0,0 +1,72 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.benchmarks;
+
+import io.gitlab.chaver.mining.patterns.io.DatFrequencyCounter;
+import io.gitlab.chaver.mining.patterns.io.DatReader;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.util.MISCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time of the MIS step from the .dat file : with the database (DatReader + MISCalculator) or with a streaming pass
+ * on the file (DatFrequencyCounter)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MISBenchmark {
+
+    @Param({"contextPasquier99", "mushroom", "chess", "anneal"})
+    public String dataset;
+    @Param({"1", "4"})
+    public int nbThreads;
+    @Param("data/")
+    public String dataDir;
+
+    private final double beta = 0.5;
+    private final int misMin = 10;
+
+    @Benchmark
+    public int[] databaseMIS() throws IOException {
+        TransactionalDatabase database = BenchmarkData.read(dataDir, dataset);
+        return new MISCalculator(database, beta, misMin).computeMIS();
+    }
+
+    @Benchmark
+    public int[] streamingMIS() throws IOException {
+        DatFrequencyCounter counter = new DatFrequencyCounter(BenchmarkData.path(dataDir, dataset), nbThreads).count();
+        return MISCalculator.computeMIS(counter.getItemFreq(), beta, misMin);
+    }
+
+    @Benchmark
+    public int[] classMIS() throws IOException {
+        TransactionalDatabase database = new DatReader(BenchmarkData.path(dataDir, dataset), 0, false).read();
+        double[] betas = new double[database.getNbItems()];
+        Arrays.fill(betas, beta);
+        return MISCalculator.computeClassMIS(database, betas, misMin);
+    }
+}
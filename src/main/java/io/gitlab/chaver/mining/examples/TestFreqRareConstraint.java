@@ -15,10 +15,10 @@ import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMax;
-import org.chocosolver.solver.search.strategy.selectors.variables.VariableSelector;
 import io.gitlab.chaver.mining.patterns.constraints.FreqRareConstraint;
 import io.gitlab.chaver.mining.patterns.io.DatReader;
 import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.search.strategy.selectors.variables.MinMis;
 
 import java.util.Arrays;
 import java.util.BitSet;
@@ -60,7 +60,7 @@ public class TestFreqRareConstraint {
         FreqRareConstraint.post(items, mis, itemCovers, transactions.length);
 
         Solver solver = model.getSolver();
-        solver.setSearch(Search.intVarSearch(new MinMisSelector(intItems, mis), new IntDomainMax(), intItems));
+        solver.setSearch(Search.intVarSearch(new MinMis(model, mis), new IntDomainMax(), intItems));
 
         boolean hasSolution = false;
         while (solver.solve()) {
@@ -76,28 +76,6 @@ public class TestFreqRareConstraint {
         }
     }
 
-    private static class MinMisSelector implements VariableSelector<IntVar> {
-        private final IntVar[] items;
-        private final int[] mis;
-    
-        public MinMisSelector(IntVar[] items, int[] mis) {
-            this.items = items;
-            this.mis = mis;
-        }
-    
-        @Override
-        public IntVar getVariable(IntVar[] variables) {
-            IntVar next = null;
-            int minMis = Integer.MAX_VALUE;
-            for (int i = 0; i < items.length; i++) { // Iterate by index
-                if (!items[i].isInstantiated() && mis[i] < minMis) {
-                    minMis = mis[i];
-                    next = items[i];
-                }
-            }
-            return next;
-        }
-    }
 
     private static boolean contains(int[] transaction, int item) {
         for (int i : transaction) if (i == item) return true;
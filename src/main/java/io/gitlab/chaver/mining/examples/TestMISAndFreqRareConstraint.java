@@ -10,20 +10,17 @@
 package io.gitlab.chaver.mining.examples;
 
 import java.util.Arrays;
-import java.util.BitSet;
-import java.util.HashMap;
-import java.util.Map;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMax;
-import org.chocosolver.solver.search.strategy.selectors.variables.VariableSelector;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 
-import io.gitlab.chaver.mining.patterns.constraints.FreqRareConstraint;
+import io.gitlab.chaver.mining.patterns.constraints.factory.ConstraintFactory;
 import io.gitlab.chaver.mining.patterns.io.DatReader;
 import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.search.strategy.selectors.variables.MinMis;
 import io.gitlab.chaver.mining.patterns.util.MISCalculator;
 
 
@@ -47,32 +44,21 @@ public class TestMISAndFreqRareConstraint {
     }
 
     private static void testFreqRare(TransactionalDatabase database, int[] mis) {
-        // Step 1: Precompute item covers
-        Map<Integer, BitSet> itemCovers = new HashMap<>();
-        int[][] transactions = database.getValues();
         int[] items = database.getItems();
 
-        for (int item : items) {
-            BitSet cover = new BitSet(transactions.length);
-            for (int txn = 0; txn < transactions.length; txn++) {
-                if (contains(transactions[txn], item)) cover.set(txn);
-            }
-            itemCovers.put(item, cover);
-        }
-        
-        // Step 2: Create model and variables
+        // Step 1: Create model and variables
         Model model = new Model("FreqRare Test");
         BoolVar[] itemsVars = model.boolVarArray("I", items.length);
         IntVar[] intItems = Arrays.stream(itemsVars).map(BoolVar::asIntVar).toArray(IntVar[]::new);
 
-        // Step 3: Post FreqRare constraint
-        FreqRareConstraint.post(itemsVars, mis, itemCovers, transactions.length);
+        // Step 2: Post FreqRare constraint (the covers are read from the database)
+        model.post(ConstraintFactory.freqRare(database, itemsVars, mis));
 
-        // Step 4: Configure solver with IntVar-compatible search
+        // Step 3: Configure solver with IntVar-compatible search
         Solver solver = model.getSolver();
-        solver.setSearch(Search.intVarSearch(new MinMisSelector(intItems, mis), new IntDomainMax(), intItems));
+        solver.setSearch(Search.intVarSearch(new MinMis(model, database, mis), new IntDomainMax(), intItems));
 
-        // Step 5: Solve and print solutions
+        // Step 4: Solve and print solutions
         boolean hasSolution = false;
         while (solver.solve()) {
             hasSolution = true;
@@ -87,34 +73,6 @@ public class TestMISAndFreqRareConstraint {
         }
     }
 
-    private static class MinMisSelector implements VariableSelector<IntVar> {
-        private final IntVar[] items;
-        private final int[] mis;
-
-        public MinMisSelector(IntVar[] items, int[] mis) {
-            this.items = items;
-            this.mis = mis;
-        }
-
-        @Override
-        public IntVar getVariable(IntVar[] variables) {
-            IntVar next = null;
-            int minMis = Integer.MAX_VALUE;
-            for (int i = 0; i < items.length; i++) {
-                if (!items[i].isInstantiated() && mis[i] < minMis) {
-                    minMis = mis[i];
-                    next = items[i];
-                }
-            }
-            return next;
-        }
-    }
-
-    private static boolean contains(int[] transaction, int item) {
-        for (int i : transaction) if (i == item) return true;
-        return false;
-    }
-
 
     // public static void main(String[] args) throws Exception {
     //     // 1. Read the transactional database from file.
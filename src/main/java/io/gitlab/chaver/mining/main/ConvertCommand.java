@@ -0,0 +1,52 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.main;
+
+import io.gitlab.chaver.mining.patterns.io.CoverStoreConverter;
+import io.gitlab.chaver.mining.patterns.io.MappedCoverStore;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Convert a .dat file (and its value files) in the binary format of MappedCoverStore : the commands which read a
+ * database memory-map the covers of a file with the extension .cov instead of parsing the text file. The database is
+ * not loaded in the heap during the conversion (see CoverStoreConverter). The file is parsed with the grammar of
+ * FastDatReader, which is stricter than the one of DatReader.
+ */
+@Command(name = "convert", description = "Convert a .dat file in the binary format of the vertical representation",
+        mixinStandardHelpOptions = true)
+public class ConvertCommand implements Callable<Integer> {
+
+    @Option(names = "-d", required = true, description = "Path of the transactional database (.dat), its items " +
+            "must be non-negative integers separated by spaces or tabulations")
+    private String dataPath;
+    @Option(names = "-o", description = "Path of the binary file (default : path of the database with the " +
+            "extension ." + MappedCoverStore.EXTENSION + ")")
+    private String outputPath;
+    @Option(names = "--nv", description = "Number of value files to store (e.g. 2 for the files .val0 and .val1, " +
+            "default : ${DEFAULT-VALUE})", defaultValue = "0")
+    private int nbValueMeasures;
+    @Option(names = "--threads", description = "Number of threads used to count the items of the database " +
+            "(default : number of processors)")
+    private int nbThreads = Runtime.getRuntime().availableProcessors();
+
+    @Override
+    public Integer call() throws Exception {
+        // the classes are stored, they can be ignored when the file is read
+        String path = outputPath != null ? outputPath :
+                MainCommand.getSidecarPath(dataPath, MappedCoverStore.EXTENSION);
+        CoverStoreConverter converter = new CoverStoreConverter(dataPath, nbValueMeasures, nbThreads).convert(path);
+        System.out.println(converter.getNbItems() + " items, " + converter.getNbTransactions() +
+                " transactions : database written in " + path);
+        return 0;
+    }
+}
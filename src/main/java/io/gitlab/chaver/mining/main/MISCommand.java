@@ -0,0 +1,56 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.main;
+
+import io.gitlab.chaver.mining.patterns.io.DatFrequencyCounter;
+import io.gitlab.chaver.mining.patterns.util.MISCalculator;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Compute the MIS of the items of a .dat file with a single parallel pass on the file (the database is not built)
+ * and write them in a sidecar file which can be given to the --mis option of the freqrare command.
+ */
+@Command(name = "mis", description = "Compute the MIS of the items of a .dat file", mixinStandardHelpOptions = true)
+public class MISCommand implements Callable<Integer> {
+
+    @Option(names = "-d", required = true, description = "Path of the transactional database (.dat), its items " +
+            "must be non-negative integers separated by spaces or tabulations")
+    private String dataPath;
+    @Option(names = "--beta", required = true, description = "MIS(i) = max(beta * freq(i), mismin)")
+    private double beta;
+    @Option(names = "--mismin", description = "Min value of the MIS of an item (default : ${DEFAULT-VALUE})",
+            defaultValue = "1")
+    private int misMin;
+    @Option(names = "-o", description = "Path of the MIS file (default : path of the database with the extension " +
+            ".mis)")
+    private String misPath;
+    @Option(names = "--threads", description = "Number of threads used to read the database (default : number of " +
+            "processors)")
+    private int nbThreads = Runtime.getRuntime().availableProcessors();
+    @Option(names = "--print", description = "Print the frequency and the MIS of each item")
+    private boolean print;
+
+    @Override
+    public Integer call() throws Exception {
+        DatFrequencyCounter counter = new DatFrequencyCounter(dataPath, nbThreads).count();
+        int[] mis = MISCalculator.computeMIS(counter.getItemFreq(), beta, misMin);
+        String path = misPath != null ? misPath : MainCommand.getSidecarPath(dataPath, "mis");
+        MISCalculator.writeMIS(path, counter.getItems(), mis);
+        if (print) {
+            MISCalculator.printMIS(counter.getItems(), counter.getItemFreq(), mis);
+        }
+        System.out.println(counter.getItems().length + " items, " + counter.getNbTransactions() +
+                " transactions : MIS written in " + path);
+        return 0;
+    }
+}
@@ -12,12 +12,14 @@ package io.gitlab.chaver.mining.main;
 import io.gitlab.chaver.chocotools.util.ProblemExceptionHandlerProd;
 import io.gitlab.chaver.mining.patterns.problems.ClosedSky;
 import io.gitlab.chaver.mining.patterns.problems.CpSky;
+import io.gitlab.chaver.mining.patterns.problems.FreqRareMining;
 import io.gitlab.chaver.mining.rules.problems.AssociationRuleMining;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 
-@Command(subcommands = {AssociationRuleMining.class, ClosedSky.class, CpSky.class}, mixinStandardHelpOptions = true,
-        version = "1.0.0")
+@Command(subcommands = {AssociationRuleMining.class, ClosedSky.class, CpSky.class, FreqRareMining.class,
+        MISCommand.class, ConvertCommand.class},
+        mixinStandardHelpOptions = true, version = "1.0.0")
 public class MainCommand {
 
     public static void main(String[] args) {
@@ -26,4 +28,16 @@ public class MainCommand {
                 .execute(args);
         System.exit(exitCode);
     }
+
+    /**
+     * Path of a file written next to a database (e.g. data/retail.mis for data/retail.dat and the extension mis)
+     * @param dataPath path of the database
+     * @param extension extension of the file (without the dot)
+     * @return path of the database with the given extension
+     */
+    static String getSidecarPath(String dataPath, String extension) {
+        int dot = dataPath.lastIndexOf('.');
+        int separator = Math.max(dataPath.lastIndexOf('/'), dataPath.lastIndexOf('\\'));
+        return (dot > separator ? dataPath.substring(0, dot) : dataPath) + "." + extension;
+    }
 }
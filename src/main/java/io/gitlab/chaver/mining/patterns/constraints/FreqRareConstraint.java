@@ -9,113 +9,55 @@
  */
 package io.gitlab.chaver.mining.patterns.constraints;
 
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
-import org.chocosolver.solver.constraints.Propagator;
-import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
-import org.chocosolver.util.ESat;
 import java.util.BitSet;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.IntStream;
 
+/**
+ * FreqRare constraint built from a map which associates each item index to its cover.
+ * The covers are converted once in words and the filtering is delegated to PropFreqRareCover, so that the pruning
+ * loop only counts intersections on the words of the reversible cover (no allocation during the propagation).
+ */
 public class FreqRareConstraint extends Constraint {
 
-    private static class FreqRarePropagator extends Propagator<BoolVar> {
-        private final int[] mis;
-        private final Map<Integer, BitSet> itemCoverMap;
-        private final int totalTransactions;
-
-        public FreqRarePropagator(BoolVar[] vars, int[] mis, 
-                                 Map<Integer, BitSet> itemCoverMap, int totalTransactions) {
-            super(vars);
-            this.mis = mis;
-            this.itemCoverMap = itemCoverMap;
-            this.totalTransactions = totalTransactions;
-        }
-
-        @Override
-        public void propagate(int evtmask) throws ContradictionException {
-            BitSet P = new BitSet(vars.length);
-            BitSet U = new BitSet(vars.length);
-            for (int i = 0; i < vars.length; i++) {
-                if (vars[i].isInstantiated()) {
-                    if (vars[i].getValue() == 1) P.set(i);
-                } else {
-                    U.set(i);
-                }
-            }
-
-            // Compute cover(P)
-            BitSet coverP = new BitSet(totalTransactions);
-            if (P.isEmpty()) {
-                coverP.set(0, totalTransactions); // cover(P) = all transactions when P is empty
-            } else {
-                boolean first = true;
-                for (int i = P.nextSetBit(0); i >= 0; i = P.nextSetBit(i+1)) {
-                    if (first) {
-                        coverP.or(itemCoverMap.get(i));
-                        first = false;
-                    } else {
-                        coverP.and(itemCoverMap.get(i));
-                    }
-                }
-            }
-            int coverSize = coverP.cardinality();
-
-            // Compute minimum MIS
-            int s = Integer.MAX_VALUE;
-            if (P.isEmpty()) {
-                // When P is empty, s = min(MIS of all unassigned items)
-                for (int i = U.nextSetBit(0); i >= 0; i = U.nextSetBit(i+1)) {
-                    s = Math.min(s, mis[i]);
-                }
-            } else {
-                for (int i = P.nextSetBit(0); i >= 0; i = P.nextSetBit(i+1)) {
-                    s = Math.min(s, mis[i]);
-                }
-                for (int i = U.nextSetBit(0); i >= 0; i = U.nextSetBit(i+1)) {
-                    s = Math.min(s, mis[i]);
-                }
-            }
-
-            // Check frequency constraint
-            if (coverSize < s) {
-                fails();
-            }
-
-            // Prune inconsistent items
-            for (int i = U.nextSetBit(0); i >= 0; i = U.nextSetBit(i+1)) {
-                BitSet coverPi = (BitSet) coverP.clone();
-                coverPi.and(itemCoverMap.get(i));
-                if (coverPi.cardinality() < s) {
-                    vars[i].setToFalse(this);
-                }
-            }
-        }
-
-        @Override
-        public ESat isEntailed() {
-            return ESat.TRUE;
-        }
-    }
-
     public FreqRareConstraint(String name, BoolVar[] vars, int[] mis,
                              Map<Integer, BitSet> itemCoverMap, int totalTransactions) {
-        super(name, new FreqRarePropagator(vars, mis, itemCoverMap, totalTransactions));
+        super(name, new PropFreqRareCover(toDatabase(vars.length, itemCoverMap, totalTransactions), vars, mis));
+    }
+
+    /**
+     * Create a database from the covers of the items (an item without cover is contained in no transaction)
+     * @param nbItems number of items
+     * @param itemCoverMap map which associates each item index to its cover
+     * @param totalTransactions number of transactions
+     * @return a database without classes and values
+     */
+    private static TransactionalDatabase toDatabase(int nbItems, Map<Integer, BitSet> itemCoverMap,
+                                                    int totalTransactions) {
+        BitSet[] verticalRepresentation = new BitSet[nbItems];
+        for (int i = 0; i < nbItems; i++) {
+            BitSet itemCover = itemCoverMap.get(i);
+            verticalRepresentation[i] = itemCover != null ? itemCover : new BitSet(totalTransactions);
+        }
+        int[] items = IntStream.range(0, nbItems).toArray();
+        return new TransactionalDatabase(items, new int[0][], 0, verticalRepresentation, totalTransactions);
     }
 
-    public static void post(BoolVar[] items, int[] mis, 
+    public static void post(BoolVar[] items, int[] mis,
                        Map<Integer, BitSet> itemCovers, int transactionCount) {
         Model model = items[0].getModel();
         // Add constraint: itemset must be non-empty
-        model.sum(items, ">=", 1).post(); 
+        model.sum(items, ">=", 1).post();
         model.post(new FreqRareConstraint(
-            "FreqRare", 
-            items, 
-            mis, 
-            itemCovers, 
+            "FreqRare",
+            items,
+            mis,
+            itemCovers,
             transactionCount
         ));
     }
-}
\ No newline at end of file
+}
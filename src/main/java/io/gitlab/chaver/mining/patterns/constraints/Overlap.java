@@ -25,7 +25,7 @@ import java.util.stream.IntStream;
 public class Overlap extends Constraint implements IMonitorSolution {
 
     private TransactionalDatabase database;
-    private BitSet[] verticalRepresentation;
+    private long[][] dataset; // words of the cover of each item (shared with the database)
     private BoolVar[] x;
     private double jmax;
     private int theta;
@@ -34,7 +34,7 @@ public class Overlap extends Constraint implements IMonitorSolution {
     public Overlap(TransactionalDatabase database, BoolVar[] x, double jmax, int theta) {
         super("Overlap", new PropOverlap(database, x, jmax, theta));
         this.database = database;
-        this.verticalRepresentation = database.getVerticalRepresentation();
+        this.dataset = database.getDatasetAsLongArray();
         this.x = x;
         this.jmax = jmax;
         this.theta = theta;
@@ -57,7 +57,7 @@ public class Overlap extends Constraint implements IMonitorSolution {
                 .toArray();
         BitSet cover = createCover();
         for (int i : itemset) {
-            cover.and(verticalRepresentation[i]);
+            cover = PropOverlap.computeCoverUnion(cover, dataset[i]);
         }
         for (BitSet HCover : propOverlap.getCoversHistory()) {
             if (computeJaccard(cover, HCover) > jmax) {
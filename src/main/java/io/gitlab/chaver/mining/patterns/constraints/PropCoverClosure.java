@@ -10,6 +10,7 @@
 package io.gitlab.chaver.mining.patterns.constraints;
 
 import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.measure.compute.IMeasureComputerFactory;
 import org.chocosolver.solver.variables.BoolVar;
 
 import java.util.Arrays;
@@ -26,4 +27,9 @@ public class PropCoverClosure extends PropAdequateClosureWC {
     public PropCoverClosure(TransactionalDatabase database, BoolVar[] items) {
         super(database, Arrays.asList(freq()), items);
     }
+
+    public PropCoverClosure(TransactionalDatabase database, BoolVar[] items,
+                            IMeasureComputerFactory measureComputerFactory) {
+        super(database, Arrays.asList(freq()), items, measureComputerFactory);
+    }
 }
@@ -40,19 +40,25 @@ public class PropCoverSize extends Propagator<IntVar> {
     private final int firstIndex; // min index (= nb of classes of the database)
 
     public PropCoverSize(TransactionalDatabase database, IntVar freq, BoolVar[] items) {
-        super(ArrayUtils.concat(items, freq));
-        cover = getBitSet(ConstraintSettings.BITSET_TYPE, database, model);
-        this.freq = freq;
-        this.items = items;
-        this.freeItems = IntStream.range(0, database.getNbItems()).toArray();
-        this.lastIndexFree = getModel().getEnvironment().makeInt(items.length);
-        this.firstIndex = database.getNbClass();
+        this(database, freq, items, false);
     }
 
     public PropCoverSize(TransactionalDatabase database, IntVar freq, BoolVar[] items, boolean classCover) {
+        this(database, freq, items, classCover ?
+                getBitSet1(ConstraintSettings.BITSET_TYPE, database, freq.getModel()) :
+                getBitSet(ConstraintSettings.BITSET_TYPE, database, freq.getModel()));
+    }
+
+    /**
+     * @param database database
+     * @param freq f
+     * @param items x
+     * @param cover reversible cover of x+ shared with another propagator on x (e.g. FreqRare), so that the cover is
+     *              maintained only once
+     */
+    public PropCoverSize(TransactionalDatabase database, IntVar freq, BoolVar[] items, BitSetFacade cover) {
         super(ArrayUtils.concat(items, freq));
-        cover = classCover ? getBitSet1(ConstraintSettings.BITSET_TYPE, database, model) :
-                getBitSet(ConstraintSettings.BITSET_TYPE, database, model);
+        this.cover = cover;
         this.freq = freq;
         this.items = items;
         this.freeItems = IntStream.range(0, database.getNbItems()).toArray();
@@ -76,7 +82,7 @@ public class PropCoverSize extends Propagator<IntVar> {
         // Remove all items i such that freq(x+ U i) < freq.LB
         for (int i = nFree - 1; i >= firstIndex; i--) {
             int idx = freeItems[i];
-            if (cover.andCount(idx) < freq.getLB()) {
+            if (!cover.andCountAtLeast(idx, freq.getLB())) {
                 nFree = removeItem(i, nFree, idx);
                 items[idx].setToFalse(this);
             }
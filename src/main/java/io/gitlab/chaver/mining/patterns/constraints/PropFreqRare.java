@@ -9,98 +9,44 @@
  */
 package io.gitlab.chaver.mining.patterns.constraints;
 
-import org.chocosolver.solver.constraints.Propagator;
-import org.chocosolver.solver.constraints.PropagatorPriority;
-import org.chocosolver.solver.exception.ContradictionException;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
 import org.chocosolver.solver.variables.BoolVar;
-import org.chocosolver.solver.variables.IntVar;
-import org.chocosolver.util.ESat;
-import java.util.HashSet;
-import java.util.Set;
 
-public class PropFreqRare extends Propagator<BoolVar> {
-    private final int[] minSupports; // Array of minimum support thresholds for each item
-    private final Set<Integer> U;    // Unassigned items
-    private final Set<Integer> N;    // Items removed from U
-    private final int[][] transactions; // Database transactions
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+/**
+ * FreqRare propagator for a database given in horizontal format (i.e. each transaction is the list of the indices of
+ * its items). The transactions are converted once in a vertical representation and the filtering is delegated to
+ * PropFreqRareCover, so that the cover of x+ is reversible and only updated with the words of the item covers.
+ * As with PropFreqRareCover, the empty itemset is not a solution (it has no min MIS), whereas the former implementation
+ * on the transactions accepted it as soon as |D| &ge; min MIS of the items that it had not filtered.
+ */
+public class PropFreqRare extends PropFreqRareCover {
 
     public PropFreqRare(BoolVar[] vars, int[] minSupports, int[][] transactions) {
-        super(vars, PropagatorPriority.LINEAR, false);
-        this.minSupports = minSupports;
-        this.transactions = transactions;
-        this.U = new HashSet<>();
-        this.N = new HashSet<>();
-        for (int i = 0; i < vars.length; i++) {
-            U.add(i);
-        }
+        super(toVerticalDatabase(vars.length, transactions), vars, minSupports);
     }
 
-    @Override
-    public void propagate(int evtmask) throws ContradictionException {
-        Set<Integer> cover = computeCover();
-        int s = computeMinSupport();
-
-        if (cover.size() < s) {
-            fails(); // Prune the search space if cover size is less than min support
+    /**
+     * Convert the transactions in a vertical representation (the indices greater than the number of items are ignored)
+     * @param nbItems number of items
+     * @param transactions indices of the items of each transaction
+     * @return a database without classes and values
+     */
+    private static TransactionalDatabase toVerticalDatabase(int nbItems, int[][] transactions) {
+        BitSet[] verticalRepresentation = new BitSet[nbItems];
+        for (int i = 0; i < nbItems; i++) {
+            verticalRepresentation[i] = new BitSet(transactions.length);
         }
-
-        for (Integer i : new HashSet<>(U)) {
-            if (computeCoverIntersectionSize(cover, i) < s) {
-                vars[i].removeValue(1, this);
-                U.remove(i);
-                N.add(i);
-            }
-        }
-    }
-
-    private Set<Integer> computeCover() {
-        Set<Integer> cover = new HashSet<>();
         for (int t = 0; t < transactions.length; t++) {
-            Set<Integer> transactionItems = new HashSet<>();
-            for (int i = 0; i < transactions[t].length; i++) {
-                transactionItems.add(transactions[t][i]);
-            }
-            boolean include = true;
-            for (int i : U) {
-                if (vars[i].isInstantiatedTo(1) && !transactionItems.contains(i)) {
-                    include = false;
-                    break;
+            for (int item : transactions[t]) {
+                if (item >= 0 && item < nbItems) {
+                    verticalRepresentation[item].set(t);
                 }
             }
-            if (include) {
-                cover.add(t);
-            }
-        }
-        return cover;
-    }
-    
-
-    private int computeMinSupport() {
-        int minSupport = Integer.MAX_VALUE;
-        for (Integer i : U) {
-            minSupport = Math.min(minSupport, minSupports[i]);
-        }
-        return minSupport;
-    }
-
-    private int computeCoverIntersectionSize(Set<Integer> cover, int item) {
-        int count = 0;
-        for (Integer t : cover) {
-            // Ensure item index is within bounds before accessing it
-            if (item < transactions[t].length && transactions[t][item] == 1) {
-                count++;
-            }
-        }
-        return count;
-    }
-
-    @Override
-    public ESat isEntailed() {
-        Set<Integer> cover = computeCover();
-        int s = computeMinSupport();
-        if (cover.size() < s) {
-            return ESat.FALSE;
         }
-        return ESat.UNDEFINED;
+        int[] items = IntStream.range(0, nbItems).toArray();
+        return new TransactionalDatabase(items, new int[0][], 0, verticalRepresentation, transactions.length);
     }
 }
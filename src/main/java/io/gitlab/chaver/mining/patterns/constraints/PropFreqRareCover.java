@@ -0,0 +1,240 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.constraints;
+
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.util.BitSetFacade;
+import io.gitlab.chaver.mining.patterns.util.ConstraintSettings;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import static io.gitlab.chaver.mining.patterns.util.BitSetFactory.getBitSet;
+
+/**
+ * Given a set of boolean variables x and the minimum item support MIS(i) of each item i, ensures that x is frequent
+ * w.r.t. multiple minimum supports (i.e. freq(x) &ge; min{MIS(i) | i in x})
+ * The cover of x+ is stored in a reversible sparse bitset which is updated incrementally each time an item is
+ * instantiated to 1 (fine event), the filtering is then done by a single coarse pass per fix-point.
+ * The propagator is entailed (and becomes passive) as soon as x+ is not empty and freq(x+ U x*) &ge; min MIS of x+,
+ * since each itemset X with x+ &sube; X &sube; x+ U x* then satisfies freq(X) &ge; freq(x+ U x*) &ge; min MIS of X
+ * (except when the additional lower bound on freq(x) can rise during the search, see enableMinCoverSizeRaises()).
+ * For more information, see Belaid and Lazaar - Constraint Programming for Itemset Mining with Multiple Minimum Supports
+ */
+public class PropFreqRareCover extends Propagator<BoolVar> {
+
+    private final BoolVar[] items; // x
+    private final TransactionalDatabase database; // only used to check entailment
+    private final int[] mis; // minimum item support of each item
+    private final BitSetFacade cover; // cover of x+
+    private final int[] freeItems; // free items (i.e. not instanciated variables)
+    private final IStateInt lastIndexFree; // all items between [firstIndex, lastIndexFree[ are free
+    private final int[] misOrder; // items sorted by increasing MIS
+    private final IStateInt misCursor; // all items in misOrder[0, misCursor[ are instantiated to 0
+    private final IStateInt minMisPresent; // min MIS of x+ (Integer.MAX_VALUE if x+ is empty)
+    private final int firstIndex; // min index (= nb of classes of the database)
+    private final int nbTransactions;
+    private int minCoverSize; // additional lower bound on freq(x) (e.g. given by a top-k search), never decreases
+    private boolean minCoverSizeRaises; // true if minCoverSize can rise during the search (no passivation)
+
+    public PropFreqRareCover(TransactionalDatabase database, BoolVar[] items, int[] mis) {
+        this(database, items, mis, null);
+    }
+
+    /**
+     * @param database database
+     * @param items x
+     * @param mis minimum item support of each item
+     * @param cover reversible cover of x+ shared with other propagators on x (a new one is created if null)
+     */
+    public PropFreqRareCover(TransactionalDatabase database, BoolVar[] items, int[] mis, BitSetFacade cover) {
+        super(items, PropagatorPriority.LINEAR, true);
+        this.items = items;
+        this.database = database;
+        this.mis = mis;
+        this.cover = cover != null ? cover : getBitSet(ConstraintSettings.BITSET_TYPE, database, model);
+        this.freeItems = IntStream.range(0, database.getNbItems()).toArray();
+        this.lastIndexFree = getModel().getEnvironment().makeInt(items.length);
+        this.firstIndex = database.getNbClass();
+        this.nbTransactions = database.getNbTransactions();
+        this.misOrder = IntStream
+                .range(firstIndex, database.getNbItems())
+                .boxed()
+                .sorted(Comparator.comparingInt(i -> mis[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        this.misCursor = getModel().getEnvironment().makeInt(0);
+        this.minMisPresent = getModel().getEnvironment().makeInt(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        if (idxVarInProp >= firstIndex) {
+            if (items[idxVarInProp].isInstantiatedTo(1)) {
+                addToPresent(idxVarInProp);
+            } else {
+                computeMinMis();
+            }
+            forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+        }
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        int nFree = lastIndexFree.get();
+        // Remove the items instantiated since the last call from the free items. The cover of x+ is already up to
+        // date, except for the initial propagation where the items instantiated to 1 must be added in x+
+        boolean fullPropagation = PropagatorEventType.isFullPropagation(evtmask);
+        for (int i = nFree - 1; i >= firstIndex; i--) {
+            int idx = freeItems[i];
+            if (items[idx].isInstantiated()) {
+                nFree = removeItem(i, nFree, idx);
+                if (fullPropagation && items[idx].isInstantiatedTo(1)) {
+                    addToPresent(idx);
+                }
+            }
+        }
+        int minMisX = minMisPresent.get();
+        int s = Math.max(computeMinMis(), minCoverSize);
+        if (cover.cardinality() < s) {
+            fails();
+        }
+        // Remove all items i such that freq(x+ U i) < s
+        for (int i = nFree - 1; i >= firstIndex; i--) {
+            int idx = freeItems[i];
+            if (!cover.andCountAtLeast(idx, s)) {
+                nFree = removeItem(i, nFree, idx);
+                items[idx].setToFalse(this);
+            }
+        }
+        lastIndexFree.set(nFree);
+        if (!minCoverSizeRaises && minMisX != Integer.MAX_VALUE &&
+                coverOfFreeItemsAtLeast(nFree, Math.max(minMisX, minCoverSize))) {
+            setPassive();
+        }
+    }
+
+    /**
+     * Set an additional lower bound on freq(x), i.e. filter the itemsets x such that freq(x) &lt; minCoverSize.
+     * The bound is global (it is not restored on backtrack) and can only increase, it is taken into account by the
+     * next propagations. It is not used by isEntailed(), so the solutions found before a raise remain valid.
+     * @param minCoverSize lower bound on freq(x)
+     */
+    public void setMinCoverSize(int minCoverSize) {
+        this.minCoverSize = Math.max(this.minCoverSize, minCoverSize);
+    }
+
+    /**
+     * Declare that the lower bound on freq(x) will rise during the search (see setMinCoverSize). The propagator is then
+     * never passivated : a passive propagator is not called anymore in its subtree, so the next raises of the bound
+     * would not be applied where most of the patterns are enumerated. Must be called before the search.
+     */
+    public void enableMinCoverSizeRaises() {
+        this.minCoverSizeRaises = true;
+    }
+
+    /**
+     * @return reversible cover of x+ (can be shared with other propagators on x, e.g. to compute freq(x))
+     */
+    public BitSetFacade getCover() {
+        return cover;
+    }
+
+    /**
+     * Add the item idx in x+ (updates the cover and the min MIS of x+)
+     * @param idx item instantiated to 1
+     */
+    private void addToPresent(int idx) {
+        cover.and(idx);
+        if (mis[idx] < minMisPresent.get()) {
+            minMisPresent.set(mis[idx]);
+        }
+    }
+
+    /**
+     * Check if freq(x+ U x*) &ge; k
+     * @param nFree all items between [firstIndex, nFree[ are free
+     * @param k threshold
+     * @return true if freq(x+ U x*) &ge; k
+     */
+    private boolean coverOfFreeItemsAtLeast(int nFree, int k) {
+        cover.resetMask();
+        for (int i = nFree - 1; i >= firstIndex; i--) {
+            cover.andMask(freeItems[i]);
+        }
+        return cover.maskCardinality() >= k;
+    }
+
+    /**
+     * Compute s = min MIS of x+ U x*. Items only leave x* to be instantiated, so the cursor on the items sorted by MIS
+     * only moves forward in a branch (amortized O(1) per call) and is restored on backtrack.
+     * @return min MIS of the items which are not instantiated to 0 (Integer.MAX_VALUE if there is no such item)
+     */
+    private int computeMinMis() {
+        int cursor = misCursor.get();
+        while (cursor < misOrder.length && items[misOrder[cursor]].isInstantiatedTo(0)) {
+            cursor++;
+        }
+        misCursor.set(cursor);
+        return cursor < misOrder.length ? mis[misOrder[cursor]] : Integer.MAX_VALUE;
+    }
+
+    private int removeItem(int i, int nFree, int idx) {
+        int lastFree = nFree - 1;
+        freeItems[i] = freeItems[lastFree];
+        freeItems[lastFree] = idx;
+        return lastFree;
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.instantiation();
+    }
+
+    @Override
+    public ESat isEntailed() {
+        BitSet coverPresent = new BitSet(nbTransactions);
+        coverPresent.set(0, nbTransactions);
+        int minMisX = Integer.MAX_VALUE;
+        int minMisXAndFree = Integer.MAX_VALUE;
+        for (int i = firstIndex; i < items.length; i++) {
+            if (items[i].isInstantiatedTo(1)) {
+                coverPresent.and(database.getCover(i));
+                minMisX = Math.min(minMisX, mis[i]);
+            }
+            if (!items[i].isInstantiatedTo(0)) {
+                minMisXAndFree = Math.min(minMisXAndFree, mis[i]);
+            }
+        }
+        // freq(X) <= freq(x+) < min MIS of x+ U x* <= min MIS of X
+        if (coverPresent.cardinality() < minMisXAndFree) {
+            return ESat.FALSE;
+        }
+        if (minMisX == Integer.MAX_VALUE) {
+            return ESat.UNDEFINED;
+        }
+        BitSet coverAll = (BitSet) coverPresent.clone();
+        for (int i = firstIndex; i < items.length; i++) {
+            if (!items[i].isInstantiated()) {
+                coverAll.and(database.getCover(i));
+            }
+        }
+        return coverAll.cardinality() >= minMisX ? ESat.TRUE : ESat.UNDEFINED;
+    }
+}
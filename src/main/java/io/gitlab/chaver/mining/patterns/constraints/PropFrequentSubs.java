@@ -80,9 +80,9 @@ public class PropFrequentSubs extends Propagator<IntVar> {
             }
         }
         for (int i : freeItems) {
-            if (cover.andCount(dataset[i]) < freq) {
+            if (!cover.andCountAtLeast(dataset[i], freq)) {
                 for (int j : presentItems) {
-                    if (subcovers.get(j).andCount(dataset[i]) < freq) {
+                    if (!subcovers.get(j).andCountAtLeast(dataset[i], freq)) {
                         x[i].setToFalse(this);
                         break;
                     }
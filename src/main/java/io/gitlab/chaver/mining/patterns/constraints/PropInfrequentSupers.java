@@ -83,7 +83,7 @@ public class PropInfrequentSupers extends Propagator<IntVar> {
         }
         if (cover.cardinality() >= freq) {
             for (int j : absentItems) {
-                if (cover.andCount(dataset[j]) >= freq) {
+                if (cover.andCountAtLeast(dataset[j], freq)) {
                     fails();
                 }
             }
@@ -93,7 +93,7 @@ public class PropInfrequentSupers extends Propagator<IntVar> {
             if (cover2.cardinality() >= freq) {
                 Set<Integer> union = unionSet(absentItems, i);
                 for (int j : union) {
-                    if (cover2.andCount(dataset[j]) >= freq) {
+                    if (cover2.andCountAtLeast(dataset[j], freq)) {
                         x[i].setToTrue(this);
                         break;
                     }
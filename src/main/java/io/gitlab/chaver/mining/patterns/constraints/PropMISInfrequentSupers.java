@@ -0,0 +1,127 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.constraints;
+
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.util.SparseBitSet;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.util.ESat;
+
+import java.nio.LongBuffer;
+import java.util.BitSet;
+
+/**
+ * Given a set of boolean variables x and the minimum item support MIS(i) of each item i, ensures that all the
+ * supersets of x are infrequent w.r.t. multiple minimum supports, i.e. for each y &sup; x,
+ * freq(y) &lt; min{MIS(i) | i in y}. Together with PropFreqRareCover, x is then a maximal MIS-frequent itemset.
+ * It is enough to consider the supersets x U {j} : if y &sup; x is MIS-frequent and j is the item of y \ x with the
+ * smallest MIS, then freq(x U {j}) &ge; freq(y) &ge; min MIS of y = min MIS of x U {j}.
+ * The filtering rules are the following ones :
+ * - if x+ U x* is MIS-frequent, x = x+ U x* (the free items are instantiated to 1)
+ * - if there is an item j in x- such that freq(x+ U x* U {j}) &ge; min(min MIS of x+, MIS(j)), fail
+ * See also PropInfrequentSupers (single frequency threshold)
+ */
+public class PropMISInfrequentSupers extends Propagator<BoolVar> {
+
+    private final BoolVar[] items; // x
+    private final int[] mis; // minimum item support of each item
+    private final LongBuffer[] columns; // words of the cover of each item (memory-mapped or in the heap)
+    private final SparseBitSet cover; // cover of x+ U x*
+    private final long[] allWords; // words of the cover of the empty itemset
+    private final long[] coverWords; // buffer of the words of the cover (reused by each call to computeCover())
+    private final int[] coverIndex; // buffer of the index of the cover
+    private final int firstIndex; // min index (= nb of classes of the database)
+
+    public PropMISInfrequentSupers(TransactionalDatabase database, BoolVar[] items, int[] mis) {
+        super(items, PropagatorPriority.QUADRATIC, false);
+        this.items = items;
+        this.mis = mis;
+        this.columns = database.getColumns();
+        int nbTransactions = database.getNbTransactions();
+        BitSet all = new BitSet(nbTransactions);
+        all.set(0, nbTransactions);
+        this.allWords = all.toLongArray();
+        this.coverWords = new long[allWords.length];
+        this.coverIndex = new int[allWords.length];
+        this.cover = new SparseBitSet();
+        this.firstIndex = database.getNbClass();
+    }
+
+    /**
+     * Compute the cover of x+ U x* (the words which become 0 are removed from the sparse index of the cover, so the
+     * next intersections only read the remaining words)
+     * @return min MIS of x+ (Integer.MAX_VALUE if x+ is empty)
+     */
+    private int computeCover() {
+        System.arraycopy(allWords, 0, coverWords, 0, allWords.length);
+        for (int w = 0; w < coverIndex.length; w++) {
+            coverIndex[w] = w;
+        }
+        cover.reset(coverWords, coverIndex, coverWords.length - 1);
+        int minMisPresent = Integer.MAX_VALUE;
+        for (int i = firstIndex; i < items.length; i++) {
+            if (!items[i].isInstantiatedTo(0)) {
+                cover.and(columns[i]);
+                if (items[i].isInstantiatedTo(1)) {
+                    minMisPresent = Math.min(minMisPresent, mis[i]);
+                }
+            }
+        }
+        return minMisPresent;
+    }
+
+    /**
+     * @param minMisPresent min MIS of x+
+     * @return the index of an item j in x- such that x+ U x* U {j} is MIS-frequent (-1 if there is no such item)
+     */
+    private int findFrequentSuperset(int minMisPresent) {
+        for (int j = firstIndex; j < items.length; j++) {
+            if (items[j].isInstantiatedTo(0) && cover.andCountAtLeast(columns[j], Math.min(minMisPresent, mis[j]))) {
+                return j;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        int minMisPresent = computeCover();
+        int minMisAll = minMisPresent;
+        for (int i = firstIndex; i < items.length; i++) {
+            if (!items[i].isInstantiated()) {
+                minMisAll = Math.min(minMisAll, mis[i]);
+            }
+        }
+        // Each X such that x+ <= X < x+ U x* has a MIS-frequent superset (x+ U x*)
+        if (minMisAll != Integer.MAX_VALUE && cover.cardinality() >= minMisAll) {
+            for (int i = firstIndex; i < items.length; i++) {
+                if (!items[i].isInstantiated()) {
+                    items[i].setToTrue(this);
+                }
+            }
+            minMisPresent = minMisAll;
+        }
+        // freq(X U {j}) >= freq(x+ U x* U {j}) and min MIS of X U {j} <= min(min MIS of x+, MIS(j))
+        if (findFrequentSuperset(minMisPresent) != -1) {
+            fails();
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (!isCompletelyInstantiated()) {
+            return ESat.UNDEFINED;
+        }
+        return findFrequentSuperset(computeCover()) == -1 ? ESat.TRUE : ESat.FALSE;
+    }
+}
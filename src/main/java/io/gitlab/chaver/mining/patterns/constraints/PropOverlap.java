@@ -27,7 +27,7 @@ import java.util.*;
 public class PropOverlap extends Propagator<IntVar> {
 
     private TransactionalDatabase database;
-    private BitSet[] verticalRepresentation;
+    private long[][] dataset; // words of the cover of each item (shared with the database)
     private BoolVar[] x;
     private double jmax;
     private int theta;
@@ -39,7 +39,7 @@ public class PropOverlap extends Propagator<IntVar> {
     public PropOverlap(TransactionalDatabase database, BoolVar[] x, double jmax, int theta) {
         super(x);
         this.database = database;
-        this.verticalRepresentation = database.getVerticalRepresentation();
+        this.dataset = database.getDatasetAsLongArray();
         this.x = x;
         this.jmax = jmax;
         this.theta = theta;
@@ -51,10 +51,18 @@ public class PropOverlap extends Propagator<IntVar> {
         return cover;
     }
 
-    private BitSet computeCoverUnion(BitSet cover, BitSet cover2) {
-        BitSet coverUnion = (BitSet) cover.clone();
-        coverUnion.and(cover2);
-        return coverUnion;
+    /**
+     * Intersection of a cover and the cover of an item (cover is not modified)
+     * @param cover cover
+     * @param itemWords words of the cover of the item
+     * @return a new cover
+     */
+    static BitSet computeCoverUnion(BitSet cover, long[] itemWords) {
+        long[] words = cover.toLongArray();
+        for (int w = 0; w < words.length; w++) {
+            words[w] &= w < itemWords.length ? itemWords[w] : 0;
+        }
+        return BitSet.valueOf(words);
     }
 
     private double LBJaccard(BitSet xCover, BitSet HCover) {
@@ -80,7 +88,7 @@ public class PropOverlap extends Propagator<IntVar> {
         Set<Integer> freeItems = new HashSet<>();
         for (int i = 0; i < database.getNbItems(); i++) {
             if (x[i].isInstantiatedTo(1)) {
-                xCover.and(verticalRepresentation[i]);
+                xCover = computeCoverUnion(xCover, dataset[i]);
             }
             if (!x[i].isInstantiated()) {
                 freeItems.add(i);
@@ -91,7 +99,7 @@ public class PropOverlap extends Propagator<IntVar> {
             fails();
         }
         for (int i : freeItems) {
-            if (!PGrowthLB(computeCoverUnion(xCover, verticalRepresentation[i]))) {
+            if (!PGrowthLB(computeCoverUnion(xCover, dataset[i]))) {
                 x[i].setToFalse(this);
             }
         }
@@ -12,12 +12,17 @@ package io.gitlab.chaver.mining.patterns.constraints.factory;
 import io.gitlab.chaver.mining.patterns.constraints.*;
 import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
 import io.gitlab.chaver.mining.patterns.measure.Measure;
+import io.gitlab.chaver.mining.patterns.measure.compute.SharedCoverComputerFactory;
+import io.gitlab.chaver.mining.patterns.util.BitSetFacade;
+import io.gitlab.chaver.mining.patterns.util.ConstraintSettings;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 
 import java.util.List;
 
+import static io.gitlab.chaver.mining.patterns.util.BitSetFactory.getBitSet;
+
 /**
  * A Constraint Factory to instantiate different data-mining constraints
  */
@@ -102,6 +107,108 @@ public class ConstraintFactory {
         return new Constraint("Generator", new PropGenerator(database, items));
     }
 
+    /**
+     * Given a transactional database, an array of Boolean variables that represents the itemset x and the minimum
+     * item support MIS(i) of each item i, ensures that x is frequent w.r.t. multiple minimum supports, i.e.
+     * freq(x) &ge; min{MIS(i) | i in x}. The empty itemset is not a solution.
+     * The class items of the database are ignored.
+     * @param database Transactional database
+     * @param items Array of Boolean variables where items[i] == 1 indicates that i belongs to the itemset x
+     * @param mis Minimum item support of each item (e.g. computed with MISCalculator)
+     * @return the FreqRare constraint
+     */
+    public static Constraint freqRare(TransactionalDatabase database, BoolVar[] items, int[] mis) {
+        return new Constraint("FreqRare", new PropFreqRareCover(database, items, mis));
+    }
+
+    /**
+     * FreqRare constraint (see freqRare) which maintains the given reversible cover of x, e.g. a cover of another
+     * BitSet type than ConstraintSettings.BITSET_TYPE or a cover shared with a CoverSize constraint.
+     * @param database Transactional database
+     * @param items Array of Boolean variables where items[i] == 1 indicates that i belongs to the itemset x
+     * @param mis Minimum item support of each item (e.g. computed with MISCalculator)
+     * @param cover Reversible cover of x (e.g. created with BitSetFactory.getBitSet)
+     * @return the FreqRare constraint
+     */
+    public static Constraint freqRare(TransactionalDatabase database, BoolVar[] items, int[] mis,
+                                      BitSetFacade cover) {
+        return new Constraint("FreqRare", new PropFreqRareCover(database, items, mis, cover));
+    }
+
+    /**
+     * Given a transactional database, an array of Boolean variables that represents the itemset x and the minimum
+     * item support MIS(i) of each item i, ensures that x is frequent w.r.t. multiple minimum supports (see freqRare)
+     * and closed w.r.t. the frequency (see coverClosure). Both propagators share the same reversible cover of x.
+     * @param database Transactional database
+     * @param items Array of Boolean variables where items[i] == 1 indicates that i belongs to the itemset x
+     * @param mis Minimum item support of each item (e.g. computed with MISCalculator)
+     * @return the ClosedFreqRare constraint (the first propagator is the FreqRare one)
+     */
+    public static Constraint closedFreqRare(TransactionalDatabase database, BoolVar[] items, int[] mis) {
+        return closedFreqRare(database, items, mis, getBitSet(ConstraintSettings.BITSET_TYPE, database,
+                items[0].getModel()));
+    }
+
+    /**
+     * ClosedFreqRare constraint (see closedFreqRare) whose propagators share the given reversible cover of x
+     * @param database Transactional database
+     * @param items Array of Boolean variables where items[i] == 1 indicates that i belongs to the itemset x
+     * @param mis Minimum item support of each item (e.g. computed with MISCalculator)
+     * @param cover Reversible cover of x (e.g. created with BitSetFactory.getBitSet)
+     * @return the ClosedFreqRare constraint (the first propagator is the FreqRare one)
+     */
+    public static Constraint closedFreqRare(TransactionalDatabase database, BoolVar[] items, int[] mis,
+                                            BitSetFacade cover) {
+        return new Constraint("ClosedFreqRare",
+                new PropFreqRareCover(database, items, mis, cover),
+                new PropCoverClosure(database, items, new SharedCoverComputerFactory(cover)));
+    }
+
+    /**
+     * Given a transactional database, an array of Boolean variables that represents the itemset x and the minimum
+     * item support MIS(i) of each item i, ensures that each superset y of x is infrequent w.r.t. multiple minimum
+     * supports, i.e. freq(y) &lt; min{MIS(i) | i in y}.
+     * The class items of the database are ignored.
+     * @param database Transactional database
+     * @param items Array of Boolean variables where items[i] == 1 indicates that i belongs to the itemset x
+     * @param mis Minimum item support of each item (e.g. computed with MISCalculator)
+     * @return the MISInfrequentSupers constraint
+     */
+    public static Constraint misInfrequentSupers(TransactionalDatabase database, BoolVar[] items, int[] mis) {
+        return new Constraint("MISInfrequentSupers", new PropMISInfrequentSupers(database, items, mis));
+    }
+
+    /**
+     * Given a transactional database, an array of Boolean variables that represents the itemset x and the minimum
+     * item support MIS(i) of each item i, ensures that x is a maximal MIS-frequent itemset, i.e. x is frequent w.r.t.
+     * multiple minimum supports (see freqRare) and none of its supersets is (see misInfrequentSupers).
+     * @param database Transactional database
+     * @param items Array of Boolean variables where items[i] == 1 indicates that i belongs to the itemset x
+     * @param mis Minimum item support of each item (e.g. computed with MISCalculator)
+     * @return the MaximalFreqRare constraint (the first propagator is the FreqRare one)
+     */
+    public static Constraint maximalFreqRare(TransactionalDatabase database, BoolVar[] items, int[] mis) {
+        return new Constraint("MaximalFreqRare",
+                new PropFreqRareCover(database, items, mis),
+                new PropMISInfrequentSupers(database, items, mis));
+    }
+
+    /**
+     * MaximalFreqRare constraint (see maximalFreqRare) whose FreqRare propagator maintains the given reversible cover
+     * of x
+     * @param database Transactional database
+     * @param items Array of Boolean variables where items[i] == 1 indicates that i belongs to the itemset x
+     * @param mis Minimum item support of each item (e.g. computed with MISCalculator)
+     * @param cover Reversible cover of x (e.g. created with BitSetFactory.getBitSet)
+     * @return the MaximalFreqRare constraint (the first propagator is the FreqRare one)
+     */
+    public static Constraint maximalFreqRare(TransactionalDatabase database, BoolVar[] items, int[] mis,
+                                             BitSetFacade cover) {
+        return new Constraint("MaximalFreqRare",
+                new PropFreqRareCover(database, items, mis, cover),
+                new PropMISInfrequentSupers(database, items, mis));
+    }
+
     /**
      * Given a transactional database, an array of Boolean variables that represents
      * the itemset x, a diversity threshold jmax and a frequency threshold theta, ensures that x is a diverse itemset,
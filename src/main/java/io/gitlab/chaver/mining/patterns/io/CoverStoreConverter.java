@@ -0,0 +1,189 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.io;
+
+import io.gitlab.chaver.mining.patterns.io.values.DoubleValuesReader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Convert a .dat file (and its value files) in the binary format of MappedCoverStore without loading the database in
+ * the heap : a first pass counts the items and the transactions (see DatFrequencyCounter, in parallel), then a second
+ * pass reads the transactions in order by blocks of transactions. The words of the covers of a block are stored in a
+ * buffer of at most BLOCK_SIZE bytes, which is written in the region of each item once the block is full, so the
+ * memory used by the conversion depends on the number of items, not on the number of transactions.
+ * The grammar of the file is the one of FastDatReader (non-negative integer items) and the classes are stored (the
+ * class of a transaction is its first item, see FastDatReader).
+ */
+public class CoverStoreConverter {
+
+    /** Max size of the buffer of the words of a block of transactions (in bytes) */
+    private static final long BLOCK_SIZE = 64L << 20;
+
+    /** Path of the .dat file */
+    private final String dataPath;
+    /** Number of value files to store */
+    private final int nbValueMeasures;
+    /** Number of threads used to count the items */
+    private final int nbThreads;
+    /** Max number of words of an item in a block */
+    private final int maxBlockWords;
+    /** Number of items of the converted database */
+    private int nbItems;
+    /** Number of transactions of the converted database */
+    private int nbTransactions;
+
+    public CoverStoreConverter(String dataPath, int nbValueMeasures, int nbThreads) {
+        this(dataPath, nbValueMeasures, nbThreads, Integer.MAX_VALUE);
+    }
+
+    CoverStoreConverter(String dataPath, int nbValueMeasures, int nbThreads, int maxBlockWords) {
+        this.dataPath = dataPath;
+        this.nbValueMeasures = nbValueMeasures;
+        this.nbThreads = nbThreads;
+        this.maxBlockWords = Math.max(1, maxBlockWords);
+    }
+
+    /**
+     * Write the vertical representation and the values of the database in the file
+     * @param path path of the file
+     * @return this converter
+     * @throws IOException if the .dat file can't be read or contains an incorrect line, or if the file can't be written
+     */
+    public CoverStoreConverter convert(String path) throws IOException {
+        DatFrequencyCounter counter = new DatFrequencyCounter(dataPath, nbThreads).count();
+        int[] items = counter.getItems();
+        nbItems = items.length;
+        nbTransactions = counter.getNbTransactions();
+        String[] pathSplit = dataPath.split("\\.");
+        int[][] values = new DoubleValuesReader(nbValueMeasures, pathSplit[pathSplit.length - 1], dataPath)
+                .readValueFiles();
+        MappedCoverStore.checkValues(values, nbItems);
+        int nbWords = MappedCoverStore.getNbWords(nbTransactions);
+        int blockWords = (int) Math.max(1, Math.min(Math.min(nbWords, maxBlockWords),
+                BLOCK_SIZE / Long.BYTES / Math.max(1, nbItems)));
+        try (FileChannel input = FileChannel.open(Paths.get(dataPath), StandardOpenOption.READ);
+             FileChannel output = FileChannel.open(Paths.get(path), StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            BlockWriter writer = new BlockWriter(input, output, items, MappedCoverStore.getDataOffset(nbItems,
+                    values.length), nbWords, blockWords);
+            try {
+                writer.parse();
+                writer.flush();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            if (writer.getNbTransactions() != nbTransactions) {
+                throw new IOException("The file " + dataPath + " has been modified during the conversion");
+            }
+            int nbClass = 1;
+            if (writer.maxFirstItem >= 0) {
+                // the class of a transaction is its first item
+                nbClass = Math.max(nbClass, Arrays.binarySearch(items, writer.maxFirstItem) + 1);
+            }
+            MappedCoverStore.writeHeader(output, items, nbClass, nbTransactions, counter.getItemFreq(), values);
+        }
+        return this;
+    }
+
+    public int getNbItems() {
+        return nbItems;
+    }
+
+    public int getNbTransactions() {
+        return nbTransactions;
+    }
+
+    /**
+     * Set the bits of the transactions of the current block in a buffer and write the words of the block in the region
+     * of each item when the block is full (or at the end of the file)
+     */
+    private static class BlockWriter extends DatChunkParser {
+
+        private final FileChannel output;
+        private final int[] items; // name of the items (sorted)
+        private final long dataOffset; // position of the region of the first item
+        private final int nbWords; // number of words of the region of an item
+        private final int blockWords; // number of words of an item in a full block
+        private final long[] block; // block[i * blockWords + w] = w-th word of the item i in the block
+        private final ByteBuffer region; // words of a region to write
+        private final ItemIndex itemIndex = new ItemIndex();
+        private int[] globalIndexes = new int[0]; // globalIndexes[l] = index in items of the item of local index l
+        private int firstWord; // index of the first word of the current block in the regions
+        private int maxFirstItem = -1; // greatest first item of a transaction
+        private int lastTransaction = -1; // last transaction which contains an item
+
+        BlockWriter(FileChannel input, FileChannel output, int[] items, long dataOffset, int nbWords,
+                    int blockWords) throws IOException {
+            super(input, 0, input.size());
+            this.output = output;
+            this.items = items;
+            this.dataOffset = dataOffset;
+            this.nbWords = nbWords;
+            this.blockWords = blockWords;
+            block = new long[items.length * blockWords];
+            region = ByteBuffer.allocate(blockWords * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        @Override
+        protected void addItem(int item) {
+            if (lastTransaction != nbTransactions) {
+                lastTransaction = nbTransactions;
+                maxFirstItem = Math.max(maxFirstItem, item);
+                if ((nbTransactions >>> 6) >= firstWord + blockWords) {
+                    try {
+                        flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+            int size = itemIndex.size();
+            int local = itemIndex.indexOf(item);
+            if (local == size) {
+                // first occurrence of the item
+                if (local == globalIndexes.length) {
+                    globalIndexes = Arrays.copyOf(globalIndexes, Math.max(16, 2 * local));
+                }
+                globalIndexes[local] = Arrays.binarySearch(items, item);
+            }
+            int i = globalIndexes[local];
+            if (i < 0 || (nbTransactions >>> 6) >= nbWords) {
+                throw new UncheckedIOException(new IOException("The file has been modified during the conversion"));
+            }
+            block[i * blockWords + (nbTransactions >>> 6) - firstWord] |= 1L << nbTransactions;
+        }
+
+        /**
+         * Write the words of the current block in the region of each item and start the next block
+         */
+        void flush() throws IOException {
+            int length = Math.min(blockWords, nbWords - firstWord);
+            long regionSize = (long) nbWords * Long.BYTES;
+            for (int i = 0; i < items.length; i++) {
+                region.clear();
+                region.asLongBuffer().put(block, i * blockWords, length);
+                region.limit(length * Long.BYTES);
+                MappedCoverStore.writeFully(output, region, dataOffset + i * regionSize +
+                        (long) firstWord * Long.BYTES);
+            }
+            Arrays.fill(block, 0L);
+            firstWord += blockWords;
+        }
+    }
+}
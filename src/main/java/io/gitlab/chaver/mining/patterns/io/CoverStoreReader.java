@@ -0,0 +1,44 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.io;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Read a binary file written by MappedCoverStore (e.g. with the convert command) : the covers are memory-mapped, so
+ * nothing is parsed and the pages of the covers are loaded on demand.
+ * The values of the items are the ones stored in the file, if the file has less than nbValueMeasures measures the
+ * values are read from the value files (see DataReader.readValueFiles()).
+ */
+public class CoverStoreReader extends DataReader {
+
+    public CoverStoreReader(String dataPath, int numberOfValueMeasures) {
+        super(dataPath, numberOfValueMeasures);
+    }
+
+    public CoverStoreReader(String dataPath, int numberOfValueMeasures, boolean noClasses) {
+        super(dataPath, numberOfValueMeasures, noClasses);
+    }
+
+    public CoverStoreReader(String dataPath) {
+        super(dataPath);
+    }
+
+    @Override
+    public TransactionalDatabase read() throws IOException {
+        MappedCoverStore coverStore = MappedCoverStore.open(dataPath);
+        nbItems = coverStore.getItems().length;
+        nbTransactions = coverStore.getNbTransactions();
+        int[][] values = coverStore.getValues().length >= nbValueMeasures ?
+                Arrays.copyOf(coverStore.getValues(), nbValueMeasures) : readValueFiles();
+        return new TransactionalDatabase(coverStore, values, noClasses ? 0 : coverStore.getNbClass());
+    }
+}
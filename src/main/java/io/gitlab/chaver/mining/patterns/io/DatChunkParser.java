@@ -0,0 +1,197 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Byte-level parser of the lines of a .dat file which start in [start, end[ (the last line can end after end) : the
+ * bytes are read in a buffer with positional reads on the channel (so several parsers can share the same channel)
+ * and the items are parsed in place, without creating a String per line or per item.
+ * A line which starts with #, % or @ is skipped, the items of a line are separated by spaces, tabulations or \r and
+ * a line without item is not a transaction.
+ */
+abstract class DatChunkParser {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final long start;
+    private final long end;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    /** Number of transactions parsed so far, i.e. index of the current transaction in the chunk */
+    protected int nbTransactions;
+
+    DatChunkParser(FileChannel channel, long start, long end) {
+        this.channel = channel;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Called for each item of the current transaction (an item can be repeated in a line)
+     * @param item name of the item
+     */
+    protected abstract void addItem(int item);
+
+    /**
+     * Fill the buffer with the bytes which follow position
+     * @return false if the end of the file is reached
+     */
+    private boolean fill(long position) throws IOException {
+        buffer.clear();
+        int n = channel.read(buffer, position);
+        buffer.flip();
+        return n > 0;
+    }
+
+    /**
+     * @return position of the first line which starts in [start, end[ (end if there is no such line)
+     */
+    private long firstLine() throws IOException {
+        if (start == 0) {
+            return 0;
+        }
+        long position = start - 1;
+        while (fill(position)) {
+            while (buffer.hasRemaining()) {
+                position++;
+                if (buffer.get() == '\n') {
+                    return position;
+                }
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Parse the lines of the chunk
+     * @throws IOException if the file can't be read or contains an incorrect character
+     */
+    void parse() throws IOException {
+        long position = firstLine();
+        boolean lineStart = true;
+        boolean skipLine = false;
+        boolean lineHasItem = false;
+        boolean inItem = false;
+        int item = 0;
+        while (position < end || !lineStart) {
+            if (!fill(position)) {
+                break;
+            }
+            while (buffer.hasRemaining() && (position < end || !lineStart)) {
+                byte b = buffer.get();
+                position++;
+                if (b == '\n') {
+                    if (inItem) {
+                        addItem(item);
+                        lineHasItem = true;
+                    }
+                    if (lineHasItem) nbTransactions++;
+                    lineStart = true;
+                    skipLine = lineHasItem = inItem = false;
+                    continue;
+                }
+                if (lineStart) {
+                    lineStart = false;
+                    skipLine = b == '#' || b == '%' || b == '@';
+                }
+                if (skipLine) continue;
+                if (b >= '0' && b <= '9') {
+                    if (!inItem) {
+                        inItem = true;
+                        item = 0;
+                    }
+                    if (item > (Integer.MAX_VALUE - (b - '0')) / 10) {
+                        throw new IOException("Item name too large at position " + (position - 1));
+                    }
+                    item = item * 10 + (b - '0');
+                }
+                else if (b == ' ' || b == '\t' || b == '\r') {
+                    if (inItem) {
+                        addItem(item);
+                        lineHasItem = true;
+                        inItem = false;
+                    }
+                }
+                else {
+                    throw new IOException("Unexpected character '" + (char) b + "' at position " + (position - 1));
+                }
+            }
+        }
+        // last line without end of line
+        if (inItem) addItem(item);
+        if (inItem || lineHasItem) nbTransactions++;
+    }
+
+    /**
+     * @return number of transactions of the chunk (once parsed)
+     */
+    int getNbTransactions() {
+        return nbTransactions;
+    }
+
+    /**
+     * Parse the chunks, in parallel if there are several chunks (one thread per chunk)
+     * @param chunks parsers of the chunks of a file
+     * @throws IOException if the file can't be read or contains an incorrect character
+     */
+    static void parseAll(List<? extends DatChunkParser> chunks) throws IOException {
+        if (chunks.size() == 1) {
+            chunks.get(0).parse();
+            return;
+        }
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (DatChunkParser chunk : chunks) {
+            tasks.add(() -> {
+                chunk.parse();
+                return null;
+            });
+        }
+        runInParallel(tasks);
+    }
+
+    /**
+     * Run each task on its own thread and wait for all of them
+     * @param tasks tasks to run
+     * @throws IOException if a task throws an exception (the IOException of the task if any)
+     */
+    static void runInParallel(List<Callable<Void>> tasks) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
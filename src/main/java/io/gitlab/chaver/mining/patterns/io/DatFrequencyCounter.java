@@ -0,0 +1,119 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.io;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Count the frequency of each item of a .dat file (see DatReader) without building the database : the file is split
+ * in chunks of lines which are parsed in parallel, each chunk counts the items in an array indexed by the local index
+ * of the items (see ItemIndex), then the counts of the chunks are summed. An item which appears several times in a transaction is counted once.
+ * The items are sorted as in DatReader, so getItemFreq()[i] is the frequency of the i-th item of the database.
+ */
+public class DatFrequencyCounter {
+
+    /** Path of the .dat file */
+    private final String dataPath;
+    /** Number of threads used to count the items */
+    private final int nbThreads;
+    /** Name of the items (sorted) */
+    private int[] items;
+    /** Frequency of each item */
+    private int[] itemFreq;
+    /** Number of transactions */
+    private int nbTransactions;
+
+    public DatFrequencyCounter(String dataPath, int nbThreads) {
+        this.dataPath = dataPath;
+        this.nbThreads = Math.max(1, nbThreads);
+    }
+
+    /**
+     * Count the frequency of the items
+     * @return this counter
+     * @throws IOException if the file can't be read or contains an incorrect line
+     */
+    public DatFrequencyCounter count() throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(dataPath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            int nbChunks = (int) Math.min(nbThreads, Math.max(1, size));
+            List<ChunkCounter> chunks = new ArrayList<>();
+            for (int c = 0; c < nbChunks; c++) {
+                chunks.add(new ChunkCounter(channel, size * c / nbChunks, size * (c + 1) / nbChunks));
+            }
+            DatChunkParser.parseAll(chunks);
+            merge(chunks);
+        }
+        return this;
+    }
+
+    private void merge(List<ChunkCounter> chunks) {
+        List<ItemIndex> indexes = new ArrayList<>();
+        for (ChunkCounter chunk : chunks) {
+            indexes.add(chunk.itemIndex);
+        }
+        items = ItemIndex.sortedItems(indexes);
+        itemFreq = new int[items.length];
+        nbTransactions = 0;
+        for (ChunkCounter chunk : chunks) {
+            int[] global = chunk.itemIndex.toGlobalIndexes(items);
+            for (int local = 0; local < global.length; local++) {
+                itemFreq[global[local]] += chunk.counts[local];
+            }
+            nbTransactions += chunk.getNbTransactions();
+        }
+    }
+
+    public int[] getItems() {
+        return items;
+    }
+
+    public int[] getItemFreq() {
+        return itemFreq;
+    }
+
+    public int getNbTransactions() {
+        return nbTransactions;
+    }
+
+    /**
+     * Count the items of the lines which start in [start, end[ (the last line can end after end)
+     */
+    private static class ChunkCounter extends DatChunkParser {
+
+        private final ItemIndex itemIndex = new ItemIndex();
+        private int[] counts = new int[0]; // counts[i] = frequency of the item of local index i
+        private int[] lastTransaction = new int[0]; // 1 + index of the last transaction which contains this item
+
+        ChunkCounter(FileChannel channel, long start, long end) {
+            super(channel, start, end);
+        }
+
+        @Override
+        protected void addItem(int item) {
+            int local = itemIndex.indexOf(item);
+            if (local >= counts.length) {
+                int length = Math.max(local + 1, 2 * counts.length);
+                counts = Arrays.copyOf(counts, length);
+                lastTransaction = Arrays.copyOf(lastTransaction, length);
+            }
+            if (lastTransaction[local] != nbTransactions + 1) {
+                lastTransaction[local] = nbTransactions + 1;
+                counts[local]++;
+            }
+        }
+    }
+}
@@ -59,6 +59,42 @@ public abstract class DataReader {
         this(dataPath, 0, true);
     }
 
+    /**
+     * Create the reader of a file w.r.t. its extension : a CoverStoreReader for the binary files written by
+     * MappedCoverStore (extension MappedCoverStore.EXTENSION), a FastDatReader otherwise. The grammar of the text files
+     * read by a FastDatReader is stricter than the one of DatReader (see FastDatReader).
+     * @param dataPath path of the file which contains the transactions data
+     * @param nbValueMeasures number of measures which require a values file
+     * @param noClasses TRUE if classes are ignored
+     * @param nbThreads number of threads used to parse a text file
+     * @return the reader of the file
+     */
+    public static DataReader create(String dataPath, int nbValueMeasures, boolean noClasses, int nbThreads) {
+        if (isCoverStore(dataPath)) {
+            return new CoverStoreReader(dataPath, nbValueMeasures, noClasses);
+        }
+        return new FastDatReader(dataPath, nbValueMeasures, noClasses, nbThreads);
+    }
+
+    /**
+     * Create the reader of a file w.r.t. its extension : a CoverStoreReader for the binary files written by
+     * MappedCoverStore (extension MappedCoverStore.EXTENSION), a DatReader otherwise
+     * @param dataPath path of the file which contains the transactions data
+     * @param nbValueMeasures number of measures which require a values file
+     * @param noClasses TRUE if classes are ignored
+     * @return the reader of the file
+     */
+    public static DataReader create(String dataPath, int nbValueMeasures, boolean noClasses) {
+        if (isCoverStore(dataPath)) {
+            return new CoverStoreReader(dataPath, nbValueMeasures, noClasses);
+        }
+        return new DatReader(dataPath, nbValueMeasures, noClasses);
+    }
+
+    private static boolean isCoverStore(String dataPath) {
+        return dataPath.endsWith("." + MappedCoverStore.EXTENSION);
+    }
+
     /**
      * Read files which contain transactions and values of items
      * @return a database object with the data
@@ -0,0 +1,241 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.io;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Read a .dat file (see DatReader) with a single pass over its bytes : the items are parsed in place (see
+ * DatChunkParser) and the index of each transaction is appended to a growable array of the item, indexed by the
+ * local index of the item (see ItemIndex), so that the size of the arrays doesn't depend on the names of the items.
+ * When the array of an item is full and it contains more than one transaction out of 32, the item switches to a
+ * growable array of words (one bit per transaction of the chunk), which is then smaller than the array of transactions :
+ * so the memory used by a dense item is the one of its cover instead of 32 bits per occurrence.
+ * At the end of the pass, the local indexes are remapped to the index of the items in the sorted items and the covers
+ * are built from the arrays of transactions and of words.
+ * The database is the same as the one of DatReader, without the two passes and the String of each line and item.
+ * With several threads, the file is split in chunks of lines which are parsed in parallel, each chunk collects the
+ * transactions of its items with indexes local to the chunk. The covers are then stitched in parallel : each thread
+ * builds the covers of a range of items by shifting the local indexes of each chunk by the number of transactions of
+ * the previous chunks, so that no word is written by two threads and no lock is needed.
+ * Grammar of the file (see DatChunkParser) : an item is a non-negative decimal integer lower or equal to
+ * Integer.MAX_VALUE, the items of a line are separated by spaces, tabulations or \r, a line which starts with #, % or @
+ * is skipped and a line without item is ignored. Any other character (e.g. a sign, a letter or a comma) makes read()
+ * throw an IOException, whereas DatReader parses each item with Integer.parseInt() (e.g. -1 is an item).
+ */
+public class FastDatReader extends DataReader {
+
+    /** Number of threads used to read the file */
+    private int nbThreads = 1;
+
+    public FastDatReader(String dataPath, int numberOfValueMeasures) {
+        super(dataPath, numberOfValueMeasures);
+    }
+
+    public FastDatReader(String dataPath, int numberOfValueMeasures, boolean noClasses) {
+        super(dataPath, numberOfValueMeasures, noClasses);
+    }
+
+    public FastDatReader(String dataPath, int numberOfValueMeasures, boolean noClasses, int nbThreads) {
+        super(dataPath, numberOfValueMeasures, noClasses);
+        this.nbThreads = Math.max(1, nbThreads);
+    }
+
+    public FastDatReader(String dataPath) {
+        super(dataPath);
+    }
+
+    @Override
+    public TransactionalDatabase read() throws IOException {
+        List<TidCollector> chunks = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(Paths.get(dataPath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            int nbChunks = (int) Math.min(nbThreads, Math.max(1, size));
+            for (int c = 0; c < nbChunks; c++) {
+                chunks.add(new TidCollector(channel, size * c / nbChunks, size * (c + 1) / nbChunks));
+            }
+            DatChunkParser.parseAll(chunks);
+        }
+        // offsets[c] = number of transactions of the chunks before c
+        int[] offsets = new int[chunks.size()];
+        nbTransactions = 0;
+        int maxFirstItem = -1;
+        List<ItemIndex> indexes = new ArrayList<>();
+        for (int c = 0; c < chunks.size(); c++) {
+            TidCollector chunk = chunks.get(c);
+            offsets[c] = nbTransactions;
+            nbTransactions += chunk.getNbTransactions();
+            maxFirstItem = Math.max(maxFirstItem, chunk.maxFirstItem);
+            indexes.add(chunk.itemIndex);
+        }
+        int[] sortedItems = ItemIndex.sortedItems(indexes);
+        nbItems = sortedItems.length;
+        // localIndexes[c][i] = local index of the i-th item in the chunk c (-1 if the item isn't in the chunk)
+        int[][] localIndexes = new int[chunks.size()][nbItems];
+        for (int c = 0; c < chunks.size(); c++) {
+            Arrays.fill(localIndexes[c], -1);
+            int[] global = chunks.get(c).itemIndex.toGlobalIndexes(sortedItems);
+            for (int local = 0; local < global.length; local++) {
+                localIndexes[c][global[local]] = local;
+            }
+        }
+        int maxClass = 1;
+        if (maxFirstItem >= 0) {
+            // the class of a transaction is its first item
+            maxClass = Math.max(maxClass, Arrays.binarySearch(sortedItems, maxFirstItem) + 1);
+        }
+        long[][] data = new long[nbItems][];
+        int nbTasks = Math.min(chunks.size(), Math.max(1, nbItems));
+        if (nbTasks == 1) {
+            buildCovers(chunks, offsets, localIndexes, data, 0, nbItems);
+        }
+        else {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int t = 0; t < nbTasks; t++) {
+                int from = nbItems * t / nbTasks;
+                int to = nbItems * (t + 1) / nbTasks;
+                tasks.add(() -> {
+                    buildCovers(chunks, offsets, localIndexes, data, from, to);
+                    return null;
+                });
+            }
+            DatChunkParser.runInParallel(tasks);
+        }
+        return new TransactionalDatabase(sortedItems, readValueFiles(), noClasses ? 0 : maxClass, data, nbTransactions);
+    }
+
+    /**
+     * Build the covers of the items in [from, to[ from the transactions collected by the chunks
+     */
+    private void buildCovers(List<TidCollector> chunks, int[] offsets, int[][] localIndexes, long[][] data, int from,
+                             int to) {
+        int nbWords = (nbTransactions + 63) >>> 6;
+        for (int i = from; i < to; i++) {
+            long[] words = new long[nbWords];
+            for (int c = 0; c < chunks.size(); c++) {
+                TidCollector chunk = chunks.get(c);
+                int local = localIndexes[c][i];
+                if (local == -1) continue;
+                if (chunk.words[local] != null) {
+                    orShifted(chunk.words[local], offsets[c], words);
+                    continue;
+                }
+                int[] itemTids = chunk.tids[local];
+                for (int t = 0; t < chunk.sizes[local]; t++) {
+                    int transaction = offsets[c] + itemTids[t];
+                    words[transaction >>> 6] |= 1L << transaction;
+                }
+            }
+            data[i] = words;
+        }
+    }
+
+    /**
+     * Set the bits of the words of a chunk in the words of a cover (the bit t of the chunk is the bit offset + t)
+     * @param chunkWords words of the item in the chunk
+     * @param offset number of transactions of the previous chunks
+     * @param words words of the cover of the item
+     */
+    private static void orShifted(long[] chunkWords, int offset, long[] words) {
+        int first = offset >>> 6;
+        int shift = offset & 63;
+        for (int w = 0; w < chunkWords.length && first + w < words.length; w++) {
+            long word = chunkWords[w];
+            if (word == 0) continue;
+            words[first + w] |= word << shift;
+            if (shift != 0 && first + w + 1 < words.length) {
+                words[first + w + 1] |= word >>> (64 - shift);
+            }
+        }
+    }
+
+    /**
+     * Append the index (local to the chunk) of each transaction to the array of each of its items, or set its bit in
+     * the words of the item once the item is dense
+     */
+    private static class TidCollector extends DatChunkParser {
+
+        /** Min number of transactions of an item before it switches to words */
+        private static final int MIN_DENSE_SIZE = 16;
+
+        private final ItemIndex itemIndex = new ItemIndex();
+        private int[][] tids = new int[0][]; // tids[i] = transactions which contain the item of local index i
+        private long[][] words = new long[0][]; // words[i] = cover of the item of local index i once dense (or null)
+        private int[] sizes = new int[0]; // sizes[i] = number of transactions in tids[i]
+        private int maxFirstItem = -1; // greatest first item of a transaction
+        private int lastTransaction = -1; // last transaction which contains an item
+
+        TidCollector(FileChannel channel, long start, long end) {
+            super(channel, start, end);
+        }
+
+        @Override
+        protected void addItem(int item) {
+            if (lastTransaction != nbTransactions) {
+                lastTransaction = nbTransactions;
+                maxFirstItem = Math.max(maxFirstItem, item);
+            }
+            int local = itemIndex.indexOf(item);
+            if (local >= sizes.length) {
+                int length = Math.max(local + 1, 2 * sizes.length);
+                tids = Arrays.copyOf(tids, length);
+                words = Arrays.copyOf(words, length);
+                sizes = Arrays.copyOf(sizes, length);
+            }
+            long[] itemWords = words[local];
+            if (itemWords != null) {
+                setBit(local, itemWords);
+                return;
+            }
+            int size = sizes[local];
+            int[] itemTids = tids[local];
+            if (size > 0 && itemTids[size - 1] == nbTransactions) {
+                // item repeated in the transaction
+                return;
+            }
+            if (itemTids != null && size == itemTids.length && size >= MIN_DENSE_SIZE &&
+                    size > (nbTransactions >>> 5)) {
+                // the words of the transactions of the chunk are smaller than a larger array of transactions
+                itemWords = new long[(nbTransactions >>> 6) + 1];
+                for (int t = 0; t < size; t++) {
+                    itemWords[itemTids[t] >>> 6] |= 1L << itemTids[t];
+                }
+                tids[local] = null;
+                setBit(local, itemWords);
+                return;
+            }
+            if (itemTids == null || size == itemTids.length) {
+                itemTids = tids[local] = Arrays.copyOf(itemTids == null ? new int[0] : itemTids,
+                        Math.max(4, 2 * size));
+            }
+            itemTids[size] = nbTransactions;
+            sizes[local] = size + 1;
+        }
+
+        /**
+         * Set the bit of the current transaction in the words of a dense item
+         */
+        private void setBit(int local, long[] itemWords) {
+            int w = nbTransactions >>> 6;
+            if (w >= itemWords.length) {
+                itemWords = Arrays.copyOf(itemWords, Math.max(w + 1, 2 * itemWords.length));
+            }
+            itemWords[w] |= 1L << nbTransactions;
+            words[local] = itemWords;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.io;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dense index of the items of a chunk of a .dat file (see DatChunkParser) : open addressing hash table from the name
+ * of an item to its local index, i.e. the rank of its first occurrence in the chunk. The arrays of a chunk are indexed
+ * by the local indexes, so their size is the number of distinct items of the chunk and not the greatest name of an
+ * item (e.g. product references of the order of 10^8).
+ */
+class ItemIndex {
+
+    /** Empty slot of the table (the names of the items are non-negative) */
+    private static final int EMPTY = -1;
+
+    private int[] keys; // name of the item of each slot
+    private int[] values; // local index of the item of each slot
+    private int[] names; // names[i] = name of the item whose local index is i
+    private int size;
+
+    ItemIndex() {
+        keys = new int[16];
+        Arrays.fill(keys, EMPTY);
+        values = new int[16];
+        names = new int[16];
+    }
+
+    private static int slot(int name, int mask) {
+        int h = name * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Local index of an item, a new index is given to the item if it is not in the table
+     * @param name name of the item
+     * @return local index of the item
+     */
+    int indexOf(int name) {
+        int mask = keys.length - 1;
+        int s = slot(name, mask);
+        while (keys[s] != EMPTY) {
+            if (keys[s] == name) {
+                return values[s];
+            }
+            s = (s + 1) & mask;
+        }
+        if (2 * (size + 1) > keys.length) {
+            grow();
+            return indexOf(name);
+        }
+        keys[s] = name;
+        values[s] = size;
+        if (size == names.length) {
+            names = Arrays.copyOf(names, 2 * size);
+        }
+        names[size] = name;
+        return size++;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[2 * oldKeys.length];
+        Arrays.fill(keys, EMPTY);
+        values = new int[keys.length];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int s = slot(oldKeys[i], mask);
+                while (keys[s] != EMPTY) {
+                    s = (s + 1) & mask;
+                }
+                keys[s] = oldKeys[i];
+                values[s] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * @return number of distinct items
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Map each local index to the index of its item in sortedItems
+     * @param sortedItems sorted names of the items (which contain the items of this table)
+     * @return the index in sortedItems of the item of each local index
+     */
+    int[] toGlobalIndexes(int[] sortedItems) {
+        int[] global = new int[size];
+        for (int i = 0; i < size; i++) {
+            global[i] = Arrays.binarySearch(sortedItems, names[i]);
+        }
+        return global;
+    }
+
+    /**
+     * Sorted names of the items of several tables (each item once)
+     * @param indexes tables of the chunks of a file
+     * @return the sorted names of the items
+     */
+    static int[] sortedItems(List<ItemIndex> indexes) {
+        int total = 0;
+        for (ItemIndex index : indexes) {
+            total += index.size;
+        }
+        int[] all = new int[total];
+        int k = 0;
+        for (ItemIndex index : indexes) {
+            System.arraycopy(index.names, 0, all, k, index.size);
+            k += index.size;
+        }
+        Arrays.sort(all);
+        int nbItems = 0;
+        for (int i = 0; i < total; i++) {
+            if (i == 0 || all[i] != all[i - 1]) {
+                all[nbItems++] = all[i];
+            }
+        }
+        return Arrays.copyOf(all, nbItems);
+    }
+}
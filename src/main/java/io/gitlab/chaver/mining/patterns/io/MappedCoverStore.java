@@ -0,0 +1,265 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+/**
+ * Vertical representation of a database stored on disk and memory-mapped, so that the covers of the items are not
+ * loaded in the heap (the pages are loaded on demand by the OS).
+ * Layout of the file (little endian) :
+ * - header : magic number, number of items, number of classes, number of transactions, number of words per item,
+ *   number of value measures
+ * - name of each item, frequency of each item, then the value of each item for each measure (padded to a multiple
+ *   of 8 bytes)
+ * - cover of each item : one region of nbWords words (64 bits) per item
+ * The file is mapped in segments of at most 2GB which contain whole regions.
+ * The files have the extension EXTENSION, so that DataReader.create() reads them with a CoverStoreReader. They are
+ * written by write() from a loaded database or by CoverStoreConverter from a .dat file.
+ */
+public class MappedCoverStore {
+
+    /** Extension of the files written by write() and CoverStoreConverter */
+    public static final String EXTENSION = "cov";
+
+    private static final int MAGIC = 0x46524356;
+    private static final int HEADER_SIZE = 6 * Integer.BYTES;
+
+    /** Name of items */
+    private final int[] items;
+    /** Number of classes */
+    private final int nbClass;
+    /** Number of transactions in the dataset */
+    private final int nbTransactions;
+    /** Number of words of the cover of an item */
+    private final int nbWords;
+    /** Frequency of each item */
+    private final int[] itemFreq;
+    /** Value of items (values[m][i] = value of the item i for the measure m) */
+    private final int[][] values;
+    /** Cover of each item (shared views : only absolute reads are allowed, see getColumns()) */
+    private final LongBuffer[] columns;
+
+    private MappedCoverStore(int[] items, int nbClass, int nbTransactions, int nbWords, int[] itemFreq,
+                             int[][] values, LongBuffer[] columns) {
+        this.items = items;
+        this.nbClass = nbClass;
+        this.nbTransactions = nbTransactions;
+        this.nbWords = nbWords;
+        this.itemFreq = itemFreq;
+        this.values = values;
+        this.columns = columns;
+    }
+
+    static int getNbWords(int nbTransactions) {
+        return (nbTransactions + 63) >>> 6;
+    }
+
+    static long getDataOffset(int nbItems, int nbValues) {
+        long offset = HEADER_SIZE + (2L + nbValues) * nbItems * Integer.BYTES;
+        return (offset + 7) & ~7L;
+    }
+
+    /**
+     * Write the vertical representation and the values of the database in the file (the database must be loaded,
+     * see CoverStoreConverter to convert a .dat file without loading it)
+     * @param database database to write
+     * @param path path of the file
+     * @throws IOException if the file can't be written
+     */
+    public static void write(TransactionalDatabase database, String path) throws IOException {
+        int nbItems = database.getNbItems();
+        int nbWords = getNbWords(database.getNbTransactions());
+        int[][] values = database.getValues();
+        checkValues(values, nbItems);
+        long dataOffset = getDataOffset(nbItems, values.length);
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeHeader(channel, database.getItems(), database.getNbClass(), database.getNbTransactions(),
+                    database.computeItemFreq(), values);
+            ByteBuffer region = ByteBuffer.allocate(nbWords * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            long regionSize = (long) nbWords * Long.BYTES;
+            for (int i = 0; i < nbItems; i++) {
+                region.clear();
+                LongBuffer words = region.asLongBuffer().put(database.getCover(i).toLongArray());
+                while (words.hasRemaining()) {
+                    words.put(0L);
+                }
+                writeFully(channel, region, dataOffset + i * regionSize);
+            }
+        }
+    }
+
+    static void checkValues(int[][] values, int nbItems) {
+        for (int[] measureValues : values) {
+            if (measureValues.length != nbItems) {
+                throw new IllegalArgumentException("The number of values of a measure is different from the " +
+                        "number of items");
+            }
+        }
+    }
+
+    /**
+     * Write the header, the items, their frequency and their values at the beginning of the file
+     */
+    static void writeHeader(FileChannel channel, int[] items, int nbClass, int nbTransactions, int[] itemFreq,
+                            int[][] values) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate((int) getDataOffset(items.length, values.length))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(items.length).putInt(nbClass).putInt(nbTransactions)
+                .putInt(getNbWords(nbTransactions)).putInt(values.length);
+        for (int item : items) {
+            header.putInt(item);
+        }
+        for (int freq : itemFreq) {
+            header.putInt(freq);
+        }
+        for (int[] measureValues : values) {
+            for (int value : measureValues) {
+                header.putInt(value);
+            }
+        }
+        header.clear();
+        writeFully(channel, header, 0);
+    }
+
+    static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    /**
+     * Map a file written by write()
+     * @param path path of the file
+     * @return the store
+     * @throws IOException if the file can't be read or has not the expected format
+     */
+    public static MappedCoverStore open(String path) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header, 0);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Incorrect vertical layout file : " + path);
+            }
+            int nbItems = header.getInt();
+            int nbClass = header.getInt();
+            int nbTransactions = header.getInt();
+            int nbWords = header.getInt();
+            int nbValues = header.getInt();
+            long dataOffset = getDataOffset(nbItems, nbValues);
+            long regionSize = (long) nbWords * Long.BYTES;
+            if (channel.size() < dataOffset + regionSize * nbItems) {
+                throw new IOException("Truncated vertical layout file : " + path);
+            }
+            ByteBuffer itemsBuffer = ByteBuffer.allocate((int) (dataOffset - HEADER_SIZE))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, itemsBuffer, HEADER_SIZE);
+            int[] items = new int[nbItems];
+            int[] itemFreq = new int[nbItems];
+            IntBuffer itemsInts = itemsBuffer.asIntBuffer().get(items).get(itemFreq);
+            int[][] values = new int[nbValues][nbItems];
+            for (int[] measureValues : values) {
+                itemsInts.get(measureValues);
+            }
+            LongBuffer[] columns = new LongBuffer[nbItems];
+            int itemsPerSegment = regionSize == 0 ? Math.max(nbItems, 1) :
+                    (int) Math.max(1, Integer.MAX_VALUE / regionSize);
+            for (int first = 0; first < nbItems; first += itemsPerSegment) {
+                int last = Math.min(nbItems, first + itemsPerSegment);
+                // the mapping remains valid after the channel is closed
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY,
+                        dataOffset + first * regionSize, (last - first) * regionSize);
+                for (int i = first; i < last; i++) {
+                    segment.position((int) ((i - first) * regionSize));
+                    segment.limit((int) ((i - first + 1) * regionSize));
+                    columns[i] = segment.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+                    segment.clear();
+                }
+            }
+            return new MappedCoverStore(items, nbClass, nbTransactions, nbWords, itemFreq, values, columns);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+        buffer.flip();
+    }
+
+    public int[] getItems() {
+        return items;
+    }
+
+    public int getNbClass() {
+        return nbClass;
+    }
+
+    public int getNbTransactions() {
+        return nbTransactions;
+    }
+
+    public int getNbWords() {
+        return nbWords;
+    }
+
+    public int[] getItemFreq() {
+        return itemFreq;
+    }
+
+    public int[][] getValues() {
+        return values;
+    }
+
+    /**
+     * Create new views of the covers of the items : each view has its own position, so a reader (e.g. a propagator)
+     * can use relative bulk reads without interfering with the other readers (e.g. the other threads)
+     * @return a view of the cover of each item
+     */
+    public LongBuffer[] getColumns() {
+        LongBuffer[] views = new LongBuffer[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            views[i] = columns[i].duplicate();
+        }
+        return views;
+    }
+
+    /**
+     * Load the cover of the item i in the heap
+     * @param i index of the item
+     * @return cover of the item
+     */
+    public BitSet getCover(int i) {
+        return BitSet.valueOf(getWords(i));
+    }
+
+    /**
+     * Copy the words of the cover of the item i in the heap (bulk copy, without parsing)
+     * @param i index of the item
+     * @return the nbWords words of the cover of the item
+     */
+    public long[] getWords(int i) {
+        long[] words = new long[nbWords];
+        columns[i].duplicate().get(words);
+        return words;
+    }
+}
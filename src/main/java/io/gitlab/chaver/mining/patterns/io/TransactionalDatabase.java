@@ -9,6 +9,9 @@
  */
 package io.gitlab.chaver.mining.patterns.io;
 
+import io.gitlab.chaver.mining.patterns.util.RoaringBitSet;
+
+import java.nio.LongBuffer;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.HashMap;
@@ -26,23 +29,101 @@ public class TransactionalDatabase {
     private int[][] values;
     /** Number of classes */
     private int nbClass;
-    /** Vertical representation of the dataset */
-    private BitSet[] verticalRepresentation;
+    /** Words of the cover of each item, the only copy of the dataset in the heap (null if it is memory-mapped) */
+    private long[][] dataset;
     /** Number of transactions in the dataset */
     private int nbTransactions;
     /** Map each item to its position in items array */
     private Map<Integer, Integer> itemsMap;
+    /** Memory-mapped vertical representation (null if the covers are stored in the heap) */
+    private MappedCoverStore coverStore;
+    /** Compressed cover of each item, shared by all the propagators (created by the first call) */
+    private RoaringBitSet[] roaringCovers;
 
     public TransactionalDatabase(int[] items, int[][] values, int nbClass, BitSet[] verticalRepresentation, int nbTransactions) {
+        this(items, values, nbClass, toWords(verticalRepresentation, nbTransactions), nbTransactions);
+    }
+
+    /**
+     * Create a database from the words of the cover of each item (see BitSet.toLongArray()), the words are not copied
+     * @param items name of items
+     * @param values value of items
+     * @param nbClass number of classes
+     * @param dataset words of the cover of each item (the missing words at the end of an array are 0)
+     * @param nbTransactions number of transactions
+     */
+    public TransactionalDatabase(int[] items, int[][] values, int nbClass, long[][] dataset, int nbTransactions) {
         this.items = items;
         this.values = values;
         this.nbClass = nbClass;
-        this.verticalRepresentation = verticalRepresentation;
+        this.dataset = dataset;
         this.nbTransactions = nbTransactions;
     }
 
+    /**
+     * Create a database whose covers are read from a memory-mapped file (the values are the ones of the file)
+     * @param coverStore memory-mapped vertical representation
+     */
+    public TransactionalDatabase(MappedCoverStore coverStore) {
+        this(coverStore, coverStore.getValues(), coverStore.getNbClass());
+    }
+
+    /**
+     * Create a database whose covers are read from a memory-mapped file
+     * @param coverStore memory-mapped vertical representation
+     * @param values value of items
+     * @param nbClass number of classes (e.g. 0 if the classes are ignored)
+     */
+    public TransactionalDatabase(MappedCoverStore coverStore, int[][] values, int nbClass) {
+        this.items = coverStore.getItems();
+        this.values = values;
+        this.nbClass = nbClass;
+        this.nbTransactions = coverStore.getNbTransactions();
+        this.coverStore = coverStore;
+    }
+
+    /**
+     * Convert the covers of the items in words (all the arrays have the same number of words)
+     * @param covers cover of each item
+     * @param nbTransactions number of transactions
+     * @return the words of the cover of each item
+     */
+    private static long[][] toWords(BitSet[] covers, int nbTransactions) {
+        int nbWords = (nbTransactions + 63) >>> 6;
+        long[][] words = new long[covers.length][];
+        for (int i = 0; i < covers.length; i++) {
+            words[i] = Arrays.copyOf(covers[i].toLongArray(), nbWords);
+        }
+        return words;
+    }
+
+    /**
+     * Vertical representation of the dataset, built from the words of the covers (each call returns a new array, the
+     * covers of a memory-mapped database are read from the file)
+     * @return the cover of each item
+     */
     public BitSet[] getVerticalRepresentation() {
-        return verticalRepresentation;
+        BitSet[] covers = new BitSet[items.length];
+        for (int i = 0; i < items.length; i++) {
+            covers[i] = getCover(i);
+        }
+        return covers;
+    }
+
+    /**
+     * Cover of the item i (loaded from the file if the database is memory-mapped), a new BitSet is created by each call
+     * @param i index of the item
+     * @return cover of the item
+     */
+    public BitSet getCover(int i) {
+        return coverStore != null ? coverStore.getCover(i) : BitSet.valueOf(dataset[i]);
+    }
+
+    /**
+     * @return the memory-mapped vertical representation, null if the covers are stored in the heap
+     */
+    public MappedCoverStore getCoverStore() {
+        return coverStore;
     }
 
     public int[][] getValues() {
@@ -65,16 +146,57 @@ public class TransactionalDatabase {
         return items.length;
     }
 
+    /**
+     * Words of the cover of each item (see BitSet.toLongArray()). The array is the storage of the database : all the
+     * propagators and bitsets of the models of the database share it, so it is read-only and must not be modified.
+     * The covers of a memory-mapped database are not loaded in the heap, the components which support such a database
+     * use getColumns() or getCoverStore() and the other ones are rejected here instead of copying the whole dataset.
+     * @return the words of the cover of each item
+     * @throws RuntimeException if the database is memory-mapped
+     */
     public long[][] getDatasetAsLongArray() {
-        long[][] dataset = new long[items.length][];
-        for (int i = 0; i < verticalRepresentation.length; i++) {
-            dataset[i] = verticalRepresentation[i].toLongArray();
+        if (coverStore != null) {
+            throw new RuntimeException("The covers of a memory-mapped database are not loaded in the heap, this " +
+                    "component needs a database read from a .dat file");
         }
         return dataset;
     }
 
+    /**
+     * Words of the cover of each item as buffers : the memory-mapped columns if the database is memory-mapped (the
+     * covers are not loaded in the heap), views of the words of the database otherwise (no copy). The buffers are read
+     * with absolute gets, so they can be shared by the propagators of a model.
+     * @return a view of the words of the cover of each item
+     */
+    public LongBuffer[] getColumns() {
+        if (coverStore != null) {
+            return coverStore.getColumns();
+        }
+        LongBuffer[] columns = new LongBuffer[dataset.length];
+        for (int i = 0; i < dataset.length; i++) {
+            columns[i] = LongBuffer.wrap(dataset[i]);
+        }
+        return columns;
+    }
+
+    /**
+     * Compressed cover of each item (see RoaringBitSetFacade). The array is built from the words of the covers by the
+     * first call and shared by the next calls.
+     * @return the compressed cover of each item
+     */
+    public synchronized RoaringBitSet[] getRoaringCovers() {
+        if (roaringCovers == null) {
+            RoaringBitSet[] covers = new RoaringBitSet[items.length];
+            for (int i = 0; i < items.length; i++) {
+                covers[i] = new RoaringBitSet(coverStore != null ? coverStore.getWords(i) : dataset[i]);
+            }
+            roaringCovers = covers;
+        }
+        return roaringCovers;
+    }
+
     public double getDensity() {
-        double nbSetTransactions = Arrays.stream(verticalRepresentation).mapToInt(BitSet::cardinality).sum();
+        double nbSetTransactions = Arrays.stream(computeItemFreq()).sum();
         return nbSetTransactions / (items.length * nbTransactions);
     }
 
@@ -97,7 +219,16 @@ public class TransactionalDatabase {
      * @return an array with the frequency of each item
      */
     public int[] computeItemFreq() {
-        return Arrays.stream(verticalRepresentation).mapToInt(BitSet::cardinality).toArray();
+        if (coverStore != null) {
+            return coverStore.getItemFreq().clone();
+        }
+        int[] freq = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            for (long word : dataset[i]) {
+                freq[i] += Long.bitCount(word);
+            }
+        }
+        return freq;
     }
 
     /**
@@ -106,7 +237,7 @@ public class TransactionalDatabase {
      * the second one represents the number of transactions that are not in the first class
      */
     public int[] getClassCount() {
-        int d1 = verticalRepresentation[0].cardinality();
+        int d1 = getCover(0).cardinality();
         int d2 = nbTransactions - d1;
         return new int[]{d1, d2};
     }
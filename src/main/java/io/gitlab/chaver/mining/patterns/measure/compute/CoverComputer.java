@@ -24,6 +24,16 @@ public abstract class CoverComputer extends MeasureComputer {
         cover = getBitSet(model);
     }
 
+    /**
+     * Create a computer which uses an existing cover (e.g. shared with another propagator)
+     * @param database database
+     * @param cover reversible cover of x+
+     */
+    protected CoverComputer(TransactionalDatabase database, BitSetFacade cover) {
+        super(database);
+        this.cover = cover;
+    }
+
     public abstract BitSetFacade getBitSet(Model model);
 
     @Override
@@ -20,6 +20,10 @@ public class FreqComputer extends CoverComputer {
         super(database, model);
     }
 
+    public FreqComputer(TransactionalDatabase database, BitSetFacade cover) {
+        super(database, cover);
+    }
+
     @Override
     public BitSetFacade getBitSet(Model model) {
         return BitSetFactory.getBitSet(type, database, model);
@@ -0,0 +1,38 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.measure.compute;
+
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.measure.Measure;
+import io.gitlab.chaver.mining.patterns.measure.pattern.Freq;
+import io.gitlab.chaver.mining.patterns.util.BitSetFacade;
+import org.chocosolver.solver.Model;
+
+/**
+ * Measure computer factory where the computer of freq uses a given cover of x+ (so that the cover is maintained only
+ * once when it is shared with another propagator, the other measures are delegated to MeasureComputerFactory)
+ */
+public class SharedCoverComputerFactory implements IMeasureComputerFactory {
+
+    private final BitSetFacade cover;
+    private final IMeasureComputerFactory factory = new MeasureComputerFactory();
+
+    public SharedCoverComputerFactory(BitSetFacade cover) {
+        this.cover = cover;
+    }
+
+    @Override
+    public MeasureComputer getMeasureComputer(Measure m, TransactionalDatabase database, Model model) {
+        if (m.getClass() == Freq.class) {
+            return new FreqComputer(database, cover);
+        }
+        return factory.getMeasureComputer(m, database, model);
+    }
+}
@@ -42,14 +42,26 @@ public class CpSky extends PatternProblem {
 
     private int[][] row0() {
         int[][] row0 = new int[database.getNbTransactions()][database.getNbItems()];
+        long[][] dataset = database.getDatasetAsLongArray();
         for (int i = 0; i < database.getNbTransactions(); i++) {
             for (int j = 0; j < database.getNbItems(); j++) {
-                row0[i][j] = database.getVerticalRepresentation()[j].get(i) ? 0 : 1;
+                row0[i][j] = contains(dataset[j], i) ? 0 : 1;
             }
         }
         return row0;
     }
 
+    /**
+     * Check if the transaction t belongs to a cover
+     * @param words words of the cover
+     * @param t transaction
+     * @return true if the bit t of the cover is set
+     */
+    private static boolean contains(long[] words, int t) {
+        int w = t >>> 6;
+        return w < words.length && (words[w] & (1L << t)) != 0;
+    }
+
     private void transactionVars() {
         transactions = model.boolVarArray("transactions", database.getNbTransactions());
         int[][] row0 = row0();
@@ -70,8 +82,9 @@ public class CpSky extends PatternProblem {
     private void transactions1Var() {
         transactions1 = model.boolVarArray("transactions1", database.getNbTransactions());
         int[][] row0 = row0();
+        long[] cover0 = database.getDatasetAsLongArray()[0];
         for (int i = 0; i < database.getNbTransactions(); i++) {
-            if (database.getVerticalRepresentation()[0].get(i)) {
+            if (contains(cover0, i)) {
                 transactions1[i] = model.scalar(items, row0[i], "=", 0).reify();
             }
             else {
@@ -108,13 +121,14 @@ public class CpSky extends PatternProblem {
             model.arithm(items[i], "=", closedExpression[i]).post();
         }
         int[] itemFreq = database.computeItemFreq();
+        long[][] dataset = database.getDatasetAsLongArray();
         for (int i = database.getNbClass(); i < database.getNbItems(); i++) {
             int[] colFreq = new int[database.getNbTransactions()];
             int[] colFreq1 = new int[database.getNbTransactions()];
             for (int j = 0; j < database.getNbTransactions(); j++) {
-                int colValue = database.getVerticalRepresentation()[i].get(j) ? 0 : 1;
+                int colValue = contains(dataset[i], j) ? 0 : 1;
                 colFreq[j] = colValue;
-                colFreq1[j] = database.getVerticalRepresentation()[0].get(j) ? colValue : 1;
+                colFreq1[j] = contains(dataset[0], j) ? colValue : 1;
             }
             for (int j = 0; j < nbClosedMeasures; j++) {
                 Measure m = closedMeasures.get(j);
@@ -0,0 +1,139 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.problems;
+
+import io.gitlab.chaver.mining.patterns.constraints.PropCoverSize;
+import io.gitlab.chaver.mining.patterns.constraints.PropFreqRareCover;
+import io.gitlab.chaver.mining.patterns.constraints.factory.ConstraintFactory;
+import io.gitlab.chaver.mining.patterns.io.Pattern;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.search.strategy.selectors.variables.MinMis;
+import io.gitlab.chaver.mining.patterns.util.BitSetFacade;
+import io.gitlab.chaver.mining.patterns.util.MISCalculator;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMax;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static io.gitlab.chaver.mining.patterns.measure.MeasureFactory.freq;
+
+/**
+ * FreqRare mining for several values of beta with a single search. For each item i, MIS(i) is non-decreasing with
+ * beta, so the solutions for a given beta are a subset of the solutions for the pointwise min of the MIS vectors : the
+ * search is done once with this min and each solution x is then accepted by each beta such that
+ * freq(x) &ge; min{MIS_beta(i) | i in x}.
+ */
+public class FreqRareBetaSweep {
+
+    private final TransactionalDatabase database;
+    private final double[] betas;
+    private final int[][] misPerBeta; // misPerBeta[b] = MIS of the items for betas[b]
+    private final int[] minMis; // pointwise min of the MIS vectors
+
+    public FreqRareBetaSweep(TransactionalDatabase database, double[] betas, int misMin) {
+        this.database = database;
+        this.betas = betas;
+        this.misPerBeta = MISCalculator.computeMIS(database, betas, misMin);
+        this.minMis = new int[database.getNbItems()];
+        for (int i = 0; i < minMis.length; i++) {
+            minMis[i] = Integer.MAX_VALUE;
+            for (int[] mis : misPerBeta) {
+                minMis[i] = Math.min(minMis[i], mis[i]);
+            }
+        }
+    }
+
+    /**
+     * MIS used by the search (i.e. the pointwise min of the MIS vectors)
+     * @return the MIS of each item
+     */
+    public int[] getMinMis() {
+        return minMis;
+    }
+
+    /**
+     * Id of the measures returned by getMeasures() : the frequency and one measure per beta (1 if the pattern is
+     * accepted by this beta, 0 otherwise)
+     * @return the list of measure ids
+     */
+    public List<String> getMeasuresId() {
+        List<String> measuresId = new ArrayList<>();
+        measuresId.add(freq().getId());
+        for (double beta : betas) {
+            measuresId.add("beta_" + beta);
+        }
+        return measuresId;
+    }
+
+    /**
+     * Compute the measures of the current solution
+     * @param items items[i] == 1 iff the item i belongs to the pattern
+     * @param freq frequency of the pattern
+     * @return the frequency of the pattern followed by 1 or 0 for each beta (1 if the pattern is accepted)
+     */
+    public int[] getMeasures(BoolVar[] items, int freq) {
+        int[] measures = new int[betas.length + 1];
+        measures[0] = freq;
+        for (int b = 0; b < betas.length; b++) {
+            int s = Integer.MAX_VALUE;
+            for (int i = 0; i < items.length; i++) {
+                if (items[i].isInstantiatedTo(1)) {
+                    s = Math.min(s, misPerBeta[b][i]);
+                }
+            }
+            measures[b + 1] = freq >= s ? 1 : 0;
+        }
+        return measures;
+    }
+
+    /**
+     * Find the patterns of each beta with a single search
+     * @return a list such that the b-th element contains the patterns of betas[b] (the patterns are shared between
+     * the lists and their measure is their frequency)
+     */
+    public List<List<Pattern>> mine() {
+        Model model = new Model("FreqRare sweep");
+        BoolVar[] items = model.boolVarArray("items", database.getNbItems());
+        for (int i = 0; i < database.getNbClass(); i++) {
+            model.arithm(items[i], "=", 0).post();
+        }
+        Constraint freqRare = ConstraintFactory.freqRare(database, items, minMis);
+        model.post(freqRare);
+        IntVar freq = model.intVar(freq().getId(), 0, database.getNbTransactions());
+        BitSetFacade cover = ((PropFreqRareCover) freqRare.getPropagator(0)).getCover();
+        new Constraint("CoverSize x", new PropCoverSize(database, freq, items, cover)).post();
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.intVarSearch(new MinMis(model, database, minMis), new IntDomainMax(), items));
+        List<List<Pattern>> patterns = new ArrayList<>();
+        for (int b = 0; b < betas.length; b++) {
+            patterns.add(new ArrayList<>());
+        }
+        while (solver.solve()) {
+            int[] itemSave = IntStream
+                    .range(0, items.length)
+                    .filter(i -> items[i].isInstantiatedTo(1))
+                    .map(i -> database.getItems()[i])
+                    .toArray();
+            Pattern p = new Pattern(itemSave, new int[]{freq.getValue()});
+            int[] measures = getMeasures(items, freq.getValue());
+            for (int b = 0; b < betas.length; b++) {
+                if (measures[b + 1] == 1) patterns.get(b).add(p);
+            }
+        }
+        return patterns;
+    }
+}
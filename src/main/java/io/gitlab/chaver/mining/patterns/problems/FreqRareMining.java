@@ -0,0 +1,341 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.problems;
+
+import io.gitlab.chaver.chocotools.problem.ChocoProblem;
+import io.gitlab.chaver.chocotools.util.Creator;
+import io.gitlab.chaver.chocotools.problem.SetUpException;
+import io.gitlab.chaver.mining.patterns.constraints.PropCoverSize;
+import io.gitlab.chaver.mining.patterns.constraints.PropFreqRareCover;
+import io.gitlab.chaver.mining.patterns.constraints.factory.ConstraintFactory;
+import io.gitlab.chaver.mining.patterns.io.CoverStoreReader;
+import io.gitlab.chaver.mining.patterns.io.DataReader;
+import io.gitlab.chaver.mining.patterns.io.Pattern;
+import io.gitlab.chaver.mining.patterns.io.PatternProblemProperties;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.search.loop.monitors.PatternPrinterMonitor;
+import io.gitlab.chaver.mining.patterns.search.loop.monitors.TopKMonitor;
+import io.gitlab.chaver.mining.patterns.search.strategy.selectors.variables.MinMis;
+import io.gitlab.chaver.mining.patterns.util.BitSetFacade;
+import io.gitlab.chaver.mining.patterns.util.FreqRareProjection;
+import io.gitlab.chaver.mining.patterns.util.MISCalculator;
+import io.gitlab.chaver.mining.patterns.util.PatternCreator;
+import io.gitlab.chaver.mining.patterns.util.RSparseBitSetFacade;
+import io.gitlab.chaver.mining.patterns.util.RoaringBitSetFacade;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMax;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static io.gitlab.chaver.mining.patterns.measure.MeasureFactory.area;
+import static io.gitlab.chaver.mining.patterns.util.BitSetFactory.getBitSet;
+import static io.gitlab.chaver.mining.patterns.measure.MeasureFactory.freq;
+
+/**
+ * Mine all the itemsets x such that freq(x) &ge; min{MIS(i) | i in x} (multiple minimum supports). The patterns are
+ * printed as soon as they are found, so that they are never stored in memory.
+ * In top-k mode, only the k best patterns w.r.t. the ranking measure are kept and the k-th best value is used as an
+ * additional lower bound on the frequency by the FreqRare propagator.
+ */
+@Command(name = "freqrare", mixinStandardHelpOptions = true, description = "Itemset mining with multiple minimum " +
+        "supports (FreqRare)")
+public class FreqRareMining extends ChocoProblem<Pattern, PatternProblemProperties> {
+
+    @Option(names = "-d", required = true, description = "Path of the transactional database")
+    private String dataPath;
+    @Option(names = "--beta", description = "MIS(i) = max(beta * freq(i), mismin)")
+    private double beta = -1;
+    @Option(names = "--betas", split = ",", description = "Sweep mode : several values of beta separated by a " +
+            "comma, a single search is done and each pattern is printed with the betas which accept it")
+    private double[] betas;
+    @Option(names = "--mismin", description = "Min value of the MIS of an item (default : ${DEFAULT-VALUE})",
+            defaultValue = "1")
+    private int misMin;
+    @Option(names = "--mis", description = "MIS of the items (path of a file where each line is an item followed by " +
+            "its MIS, the MIS of the other items is computed with --beta and --mismin)")
+    private String misPath;
+    @Option(names = "--classmis", description = "Class-conditional MIS : the MIS of an item is computed in its " +
+            "dominant class, with mismin scaled by the relative size of the class (see MISCalculator.computeClassMIS)")
+    private boolean classMis;
+    @Option(names = "--groups", description = "Beta of groups of items (path of a file where each line is a beta " +
+            "followed by the items of the group, the beta of the other items is given by --beta)")
+    private String groupsPath;
+    @Option(names = "--mapped", description = "The database is a vertical layout written by MappedCoverStore, its " +
+            "covers are memory-mapped instead of being loaded in the heap (always the case with the extension .cov)")
+    private boolean mapped;
+    @Option(names = "--noproj", description = "Don't project the database on the items which can belong to a " +
+            "pattern before building the model (the projection is never done on a memory-mapped database)")
+    private boolean noProjection;
+    @Option(names = "--threads", description = "Number of threads used to read the database (default : number of " +
+            "processors)")
+    private int nbThreads = Runtime.getRuntime().availableProcessors();
+    @Option(names = "--bitset", description = "Representation of the covers : sparse (words of the covers) or roaring " +
+            "(compressed covers, smaller and faster on sparse databases) (default : ${DEFAULT-VALUE})")
+    private String bitSetType = RSparseBitSetFacade.TYPE;
+    @Option(names = {"--nc"}, description = "Ignore class of the transactions")
+    private boolean noClasses;
+    @Option(names = "--lab", description = "File path with the label of items (each line corresponds to one item)")
+    private String labelsPath;
+    @Option(names = "--closed", description = "Only mine the closed patterns (w.r.t. the frequency)")
+    private boolean closed;
+    @Option(names = "--maximal", description = "Only mine the maximal patterns (i.e. the patterns which have no " +
+            "MIS-frequent superset), these patterns are also closed")
+    private boolean maximal;
+    @Option(names = "--topk", description = "Top-k mode : only keep the k best patterns w.r.t. the ranking measure")
+    private int topK;
+    @Option(names = "--rank", description = "Ranking measure of the top-k mode : ${COMPLETION-CANDIDATES} " +
+            "(default : ${DEFAULT-VALUE})")
+    private RankingMeasure rankingMeasure = RankingMeasure.freq;
+
+    private TransactionalDatabase database;
+    private int[] mis;
+    private String[] labels;
+    private FreqRareBetaSweep sweep;
+    private PatternPrinterMonitor printer;
+    private TopKMonitor topKMonitor;
+
+    @Override
+    protected void parseArgs() throws SetUpException {
+        if (beta < 0 && misPath == null && betas == null) {
+            throw new SetUpException("--beta, --betas or --mis must be specified");
+        }
+        if (betas != null && (beta >= 0 || misPath != null)) {
+            throw new SetUpException("--betas can't be specified with --beta or --mis");
+        }
+        if (betas != null && (classMis || groupsPath != null)) {
+            throw new SetUpException("--betas can't be specified with --classmis or --groups");
+        }
+        if (betas != null && topK > 0) {
+            throw new SetUpException("--betas and --topk can't be specified both");
+        }
+        if (!bitSetType.equals(RSparseBitSetFacade.TYPE) && !bitSetType.equals(RoaringBitSetFacade.TYPE)) {
+            throw new SetUpException("Incorrect BitSet type : " + bitSetType);
+        }
+        try {
+            DataReader reader = mapped ? new CoverStoreReader(dataPath, 0, noClasses) :
+                    DataReader.create(dataPath, 0, noClasses, nbThreads);
+            database = reader.read();
+            if (database.getCoverStore() != null && !bitSetType.equals(RSparseBitSetFacade.TYPE)) {
+                throw new SetUpException("--bitset " + bitSetType + " can't be used with a memory-mapped database");
+            }
+            if (betas != null) {
+                sweep = new FreqRareBetaSweep(database, betas, misMin);
+                mis = sweep.getMinMis();
+            }
+            else if (classMis || groupsPath != null) {
+                double[] itemBetas = new double[database.getNbItems()];
+                Arrays.fill(itemBetas, Math.max(beta, 0));
+                if (groupsPath != null) {
+                    readGroups(itemBetas);
+                }
+                mis = classMis ? MISCalculator.computeClassMIS(database, itemBetas, misMin) :
+                        MISCalculator.computeMIS(database.computeItemFreq(), itemBetas, misMin);
+            }
+            else {
+                mis = new MISCalculator(database, Math.max(beta, 0), misMin).computeMIS();
+            }
+            if (misPath != null) {
+                readMIS();
+            }
+            if (labelsPath != null) {
+                labels = Files.readAllLines(Paths.get(labelsPath), StandardCharsets.UTF_8).toArray(new String[0]);
+            }
+            if (!noProjection && database.getCoverStore() == null) {
+                project();
+            }
+        } catch (IOException e) {
+            throw new SetUpException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Replace the database by its projection on the items which can belong to a pattern (the item frequencies are
+     * the same in both databases, so the MIS of the remaining items don't change)
+     */
+    private void project() {
+        FreqRareProjection projection = new FreqRareProjection(database, mis);
+        int[] itemIndexes = projection.getItemIndexes();
+        if (labels != null) {
+            String[] allLabels = labels;
+            labels = IntStream.of(itemIndexes).mapToObj(i -> allLabels[i]).toArray(String[]::new);
+        }
+        database = projection.getDatabase();
+        mis = projection.getMis();
+        if (sweep != null) {
+            sweep = new FreqRareBetaSweep(database, betas, misMin);
+        }
+    }
+
+    private void readGroups(double[] itemBetas) throws IOException, SetUpException {
+        Map<Integer, Integer> itemsMap = database.getItemsMap();
+        for (String line : Files.readAllLines(Paths.get(groupsPath), StandardCharsets.UTF_8)) {
+            if (line.trim().isEmpty()) continue;
+            String[] group = line.trim().split("\\s+");
+            double groupBeta = Double.parseDouble(group[0]);
+            for (int j = 1; j < group.length; j++) {
+                Integer idx = itemsMap.get(Integer.parseInt(group[j]));
+                if (idx == null) {
+                    throw new SetUpException("Unknown item in the groups file : " + group[j]);
+                }
+                itemBetas[idx] = groupBeta;
+            }
+        }
+    }
+
+    private void readMIS() throws IOException, SetUpException {
+        Map<Integer, Integer> itemsMap = database.getItemsMap();
+        for (String line : Files.readAllLines(Paths.get(misPath), StandardCharsets.UTF_8)) {
+            if (line.trim().isEmpty()) continue;
+            String[] itemMis = line.trim().split("\\s+");
+            Integer idx = itemsMap.get(Integer.parseInt(itemMis[0]));
+            if (idx == null) {
+                throw new SetUpException("Unknown item in the MIS file : " + itemMis[0]);
+            }
+            mis[idx] = Integer.parseInt(itemMis[1]);
+        }
+    }
+
+    @Override
+    public void buildModel() {
+        BoolVar[] items = model.boolVarArray("items", database.getNbItems());
+        for (int i = 0; i < database.getNbClass(); i++) {
+            model.arithm(items[i], "=", 0).post();
+        }
+        // cover of the chosen BitSet type, shared by FreqRare and CoverSize
+        BitSetFacade cover = getBitSet(bitSetType, database, model);
+        Constraint freqRare;
+        if (maximal) {
+            freqRare = ConstraintFactory.maximalFreqRare(database, items, mis, cover);
+        }
+        else if (closed) {
+            freqRare = ConstraintFactory.closedFreqRare(database, items, mis, cover);
+        }
+        else {
+            freqRare = ConstraintFactory.freqRare(database, items, mis, cover);
+        }
+        model.post(freqRare);
+        PropFreqRareCover propFreqRare = (PropFreqRareCover) freqRare.getPropagator(0);
+        String freqId = freq().getId();
+        IntVar freq = model.intVar(freqId, 0, database.getNbTransactions());
+        new Constraint("CoverSize x", new PropCoverSize(database, freq, items, cover)).post();
+        Map<String, IntVar> measureVars = new HashMap<>();
+        measureVars.put(freqId, freq);
+        List<String> measuresId = getMeasuresId();
+        if (topK > 0) {
+            Creator<Pattern> creator = () -> {
+                int[] patternItems = patternItems(items);
+                return new Pattern(patternItems, new int[]{freq.getValue(), freq.getValue() * patternItems.length});
+            };
+            propFreqRare.enableMinCoverSizeRaises();
+            topKMonitor = new TopKMonitor(topK, creator, measuresId.indexOf(rankingMeasure.name()),
+                    kthValue -> propFreqRare.setMinCoverSize(getMinCoverSize(kthValue)));
+            solver.plugMonitor(topKMonitor);
+        }
+        else {
+            Creator<Pattern> creator = sweep == null ?
+                    new PatternCreator(database, items, measuresId, measureVars, null) :
+                    () -> new Pattern(patternItems(items), sweep.getMeasures(items, freq.getValue()));
+            PrintWriter writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out,
+                    StandardCharsets.UTF_8)));
+            printer = new PatternPrinterMonitor(creator, measuresId, labels, database, writer);
+            solver.plugMonitor(printer);
+        }
+        solver.setSearch(Search.intVarSearch(
+                new MinMis(model, database, mis),
+                new IntDomainMax(),
+                items
+        ));
+    }
+
+    private int[] patternItems(BoolVar[] items) {
+        return IntStream
+                .range(0, items.length)
+                .filter(i -> items[i].isInstantiatedTo(1))
+                .map(i -> database.getItems()[i])
+                .toArray();
+    }
+
+    /**
+     * Lower bound on the frequency of the patterns which are strictly better than the k-th best pattern
+     * (area(x) = freq(x) * |x| and |x| is at most the number of items)
+     * @param kthValue value of the ranking measure for the k-th best pattern
+     * @return the lower bound
+     */
+    private int getMinCoverSize(int kthValue) {
+        if (rankingMeasure == RankingMeasure.freq) {
+            return kthValue + 1;
+        }
+        int maxLength = Math.max(database.getNbItems() - database.getNbClass(), 1);
+        return (kthValue + maxLength) / maxLength;
+    }
+
+    private List<String> getMeasuresId() {
+        if (topK > 0) {
+            return Arrays.asList(freq().getId(), area().getId());
+        }
+        return sweep == null ? Collections.singletonList(freq().getId()) : sweep.getMeasuresId();
+    }
+
+    @Override
+    protected Model createModel() {
+        return new Model("FreqRare", Settings.prod());
+    }
+
+    /**
+     * The patterns are printed during the search and never stored (except in top-k mode)
+     * @return the k best patterns in top-k mode, an empty list otherwise
+     */
+    @Override
+    public List<Pattern> getSolutions() {
+        return topKMonitor != null ? topKMonitor.getSolutions() : Collections.emptyList();
+    }
+
+    @Override
+    public PatternProblemProperties getProperties() {
+        PatternProblemProperties properties = new PatternProblemProperties(solver.getMeasures());
+        properties.setAllMeasures(getMeasuresId());
+        return properties;
+    }
+
+    @Override
+    protected void printStats() {
+        super.printStats();
+        long nbPatterns = topKMonitor != null ? getSolutions().size() : printer.getNbPatterns();
+        System.out.println("\tNb patterns : " + nbPatterns);
+    }
+
+    @Override
+    protected void printSolutions() {
+        List<String> measuresId = getMeasuresId();
+        for (Pattern p : getSolutions()) {
+            System.out.println(p.toString(measuresId, labels, database));
+        }
+    }
+
+    public static void main(String[] args) {
+        new CommandLine(new FreqRareMining()).execute(args);
+    }
+}
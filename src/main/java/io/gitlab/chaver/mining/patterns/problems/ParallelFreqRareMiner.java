@@ -0,0 +1,149 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.problems;
+
+import io.gitlab.chaver.mining.patterns.constraints.factory.ConstraintFactory;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.search.strategy.selectors.variables.MinMis;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMax;
+import org.chocosolver.solver.variables.BoolVar;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel enumeration of the itemsets x such that freq(x) &ge; min{MIS(i) | i in x}.
+ * The items are sorted by increasing MIS and the search space is split in disjoint sub-problems by fixing the value of
+ * the first items of this order (prefix). The split is recursive : a sub-problem is split in two sub-problems (the
+ * next item of the order is fixed to 1 or 0) as long as the queue of its worker has less than MAX_SURPLUS tasks which
+ * are not stolen by the other workers and its prefix is shorter than maxPrefixLength, otherwise it is solved on its own
+ * Model. So the sub-problems are split further when the workers become idle (e.g. at the end of the search or when a
+ * prefix leads to a large sub-problem), and the pool balances the work by stealing them. The max length of the prefixes
+ * bounds the number of sub-problems (and of Models) when the queues stay short, e.g. with a single thread. All the workers share the same database (which is only read). Since the
+ * sub-problems are disjoint, each pattern is found exactly once.
+ */
+public class ParallelFreqRareMiner {
+
+    /** Max number of queued tasks of a worker for which a sub-problem is still split */
+    private static final int MAX_SURPLUS = 2;
+
+    private final TransactionalDatabase database;
+    private final int[] mis;
+    private final int nbThreads;
+    private final int[] itemFreq;
+    private final int[] order; // items (without classes) sorted by increasing MIS and increasing frequency
+    private final int maxPrefixLength;
+
+    /**
+     * @param database database to mine (shared by the workers)
+     * @param mis minimum item support of each item
+     * @param nbThreads number of threads of the pool
+     */
+    public ParallelFreqRareMiner(TransactionalDatabase database, int[] mis, int nbThreads) {
+        this.database = database;
+        this.mis = mis;
+        this.nbThreads = nbThreads;
+        this.itemFreq = database.computeItemFreq();
+        this.order = IntStream
+                .range(database.getNbClass(), database.getNbItems())
+                .boxed()
+                .sorted(Comparator.<Integer>comparingInt(i -> mis[i]).thenComparingInt(i -> itemFreq[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        // At most 2^6 sub-problems per thread
+        int log2Threads = 32 - Integer.numberOfLeadingZeros(Math.max(nbThreads - 1, 1));
+        this.maxPrefixLength = Math.min(order.length, log2Threads + 6);
+    }
+
+    /**
+     * Find all the patterns
+     * @param onPattern called with the items of each pattern (called concurrently by the workers, must be thread-safe)
+     * @return number of patterns
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers
+     * @throws ExecutionException if a worker fails
+     */
+    public long mine(Consumer<int[]> onPattern) throws InterruptedException, ExecutionException {
+        ForkJoinPool pool = new ForkJoinPool(nbThreads);
+        try {
+            return pool.submit(new SubProblem(new int[0], onPattern)).get();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Sub-problem where items[order[j]] = prefix[j] (for each j < prefix.length)
+     */
+    private class SubProblem extends RecursiveTask<Long> {
+
+        private final int[] prefix;
+        private final Consumer<int[]> onPattern;
+
+        SubProblem(int[] prefix, Consumer<int[]> onPattern) {
+            this.prefix = prefix;
+            this.onPattern = onPattern;
+        }
+
+        private SubProblem extend(int value) {
+            int[] extended = Arrays.copyOf(prefix, prefix.length + 1);
+            extended[prefix.length] = value;
+            return new SubProblem(extended, onPattern);
+        }
+
+        @Override
+        protected Long compute() {
+            if (prefix.length < maxPrefixLength && getSurplusQueuedTaskCount() < MAX_SURPLUS) {
+                SubProblem withItem = extend(1);
+                withItem.fork();
+                return extend(0).compute() + withItem.join();
+            }
+            return solveSubProblem(prefix, onPattern);
+        }
+    }
+
+    /**
+     * Solve the sub-problem where items[order[j]] = prefix[j] (for each j < prefix.length)
+     * @param prefix assignment of the first items of the order
+     * @param onPattern called with the items of each pattern
+     * @return number of patterns of the sub-problem
+     */
+    private long solveSubProblem(int[] prefix, Consumer<int[]> onPattern) {
+        Model model = new Model("FreqRare " + Arrays.toString(prefix));
+        BoolVar[] items = model.boolVarArray("items", database.getNbItems());
+        for (int i = 0; i < database.getNbClass(); i++) {
+            model.arithm(items[i], "=", 0).post();
+        }
+        for (int j = 0; j < prefix.length; j++) {
+            model.arithm(items[order[j]], "=", prefix[j]).post();
+        }
+        model.post(ConstraintFactory.freqRare(database, items, mis));
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.intVarSearch(new MinMis(model, mis, itemFreq), new IntDomainMax(), items));
+        long nbPatterns = 0;
+        while (solver.solve()) {
+            int[] pattern = IntStream
+                    .range(0, items.length)
+                    .filter(i -> items[i].isInstantiatedTo(1))
+                    .map(i -> database.getItems()[i])
+                    .toArray();
+            onPattern.accept(pattern);
+            nbPatterns++;
+        }
+        return nbPatterns;
+    }
+}
@@ -17,7 +17,7 @@ import io.gitlab.chaver.chocotools.util.ISolutionProvider;
 import io.gitlab.chaver.mining.patterns.constraints.PropCoverSize;
 import io.gitlab.chaver.mining.patterns.constraints.PropFrequentSubs;
 import io.gitlab.chaver.mining.patterns.constraints.PropInfrequentSupers;
-import io.gitlab.chaver.mining.patterns.io.DatReader;
+import io.gitlab.chaver.mining.patterns.io.DataReader;
 import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
 import io.gitlab.chaver.mining.patterns.io.Pattern;
 import io.gitlab.chaver.mining.patterns.io.PatternProblemProperties;
@@ -279,7 +279,7 @@ public abstract class PatternProblem extends ChocoProblem<Pattern, PatternProble
                 .max()
                 .orElse(-1);
         try {
-            database = new DatReader(dataPath, idxValMeasure + 1, noClasses).read();
+            database = DataReader.create(dataPath, idxValMeasure + 1, noClasses).read();
             if (relativeFreqMin > 0) {
                 freqMin = (int) (database.getNbTransactions() * relativeFreqMin);
             }
@@ -0,0 +1,17 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.problems;
+
+/**
+ * Measure used to rank the patterns of a top-k search
+ */
+public enum RankingMeasure {
+    freq, area;
+}
@@ -0,0 +1,64 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.search.loop.monitors;
+
+import io.gitlab.chaver.chocotools.util.Creator;
+import io.gitlab.chaver.mining.patterns.io.Pattern;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import org.chocosolver.solver.search.loop.monitors.IMonitorClose;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+
+import java.io.PrintWriter;
+import java.util.List;
+
+/**
+ * Print each pattern as soon as it is found, the patterns are not stored (useful when the number of solutions is too
+ * large to be kept in memory)
+ */
+public class PatternPrinterMonitor implements IMonitorSolution, IMonitorClose {
+
+    private final Creator<Pattern> creator;
+    private final List<String> measuresId;
+    private final String[] labels;
+    private final TransactionalDatabase database;
+    private final PrintWriter writer;
+    private long nbPatterns;
+
+    /**
+     * @param creator creates the pattern which corresponds to the current solution
+     * @param measuresId id of the measures of the patterns
+     * @param labels label of each item (can be null)
+     * @param database database to consider
+     * @param writer where the patterns are written (flushed at the end of the search)
+     */
+    public PatternPrinterMonitor(Creator<Pattern> creator, List<String> measuresId, String[] labels,
+                                 TransactionalDatabase database, PrintWriter writer) {
+        this.creator = creator;
+        this.measuresId = measuresId;
+        this.labels = labels;
+        this.database = database;
+        this.writer = writer;
+    }
+
+    @Override
+    public void onSolution() {
+        writer.println(creator.create().toString(measuresId, labels, database));
+        nbPatterns++;
+    }
+
+    @Override
+    public void afterClose() {
+        writer.flush();
+    }
+
+    public long getNbPatterns() {
+        return nbPatterns;
+    }
+}
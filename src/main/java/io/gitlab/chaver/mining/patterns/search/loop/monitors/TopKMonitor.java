@@ -0,0 +1,77 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.search.loop.monitors;
+
+import io.gitlab.chaver.chocotools.util.Creator;
+import io.gitlab.chaver.chocotools.util.ISolutionProvider;
+import io.gitlab.chaver.mining.patterns.io.Pattern;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.IntConsumer;
+
+/**
+ * Keep the k best patterns w.r.t. one of their measures in a min-heap. Once the heap is full, a pattern is kept only
+ * if its value is strictly greater than the k-th best value, and each time this value increases it is given to a
+ * listener (e.g. to tighten a lower bound of the propagators).
+ */
+public class TopKMonitor implements IMonitorSolution, ISolutionProvider<Pattern> {
+
+    private final int k;
+    private final Creator<Pattern> creator;
+    private final int measureIdx;
+    private final IntConsumer kthValueListener;
+    private final PriorityQueue<Pattern> heap;
+
+    /**
+     * @param k number of patterns to keep
+     * @param creator creates the pattern which corresponds to the current solution
+     * @param measureIdx index of the ranking measure in the measures of the patterns
+     * @param kthValueListener called with the k-th best value each time it increases
+     */
+    public TopKMonitor(int k, Creator<Pattern> creator, int measureIdx, IntConsumer kthValueListener) {
+        this.k = k;
+        this.creator = creator;
+        this.measureIdx = measureIdx;
+        this.kthValueListener = kthValueListener;
+        this.heap = new PriorityQueue<>(k, Comparator.comparingInt(this::getValue));
+    }
+
+    private int getValue(Pattern p) {
+        return p.getMeasures()[measureIdx];
+    }
+
+    @Override
+    public void onSolution() {
+        Pattern p = creator.create();
+        if (heap.size() == k) {
+            if (getValue(p) <= getValue(heap.peek())) return;
+            heap.poll();
+        }
+        heap.add(p);
+        if (heap.size() == k) {
+            kthValueListener.accept(getValue(heap.peek()));
+        }
+    }
+
+    /**
+     * Get the k best patterns
+     * @return the patterns sorted by decreasing value of the ranking measure
+     */
+    @Override
+    public List<Pattern> getSolutions() {
+        List<Pattern> patterns = new ArrayList<>(heap);
+        patterns.sort(Comparator.comparingInt(this::getValue).reversed());
+        return patterns;
+    }
+}
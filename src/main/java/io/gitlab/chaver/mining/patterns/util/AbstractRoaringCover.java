@@ -0,0 +1,353 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.util;
+
+import java.util.BitSet;
+
+import static io.gitlab.chaver.mining.patterns.util.RoaringBitSet.ARRAY;
+import static io.gitlab.chaver.mining.patterns.util.RoaringBitSet.ARRAY_MAX;
+import static io.gitlab.chaver.mining.patterns.util.RoaringBitSet.CHUNK_WORDS;
+
+/**
+ * Compressed bitset which is only modified by intersections with RoaringBitSets (e.g. a cover). The bits are split in
+ * chunks of 2^16 bits (see RoaringBitSet), the non-empty chunks are stored in a sparse set (index[0..limit]) and each
+ * chunk is either :
+ * - a bitmap : words of the chunk, with a sparse set of the non-zero words (wordIndex[k][0..wordLimit])
+ * - an array : unordered positions of the bits set to 1 in the chunk (positions[k][0..card[)
+ * A bitmap chunk becomes an array when its cardinality is at most ARRAY_MAX, an array chunk stays an array. The
+ * elements of the sparse sets and of the arrays are only swapped, so the subclasses only need to store the limits,
+ * the cardinalities, the modes and the words (e.g. in reversible variables, see RRoaringBitSet).
+ */
+abstract class AbstractRoaringCover {
+
+    /** Number of words of the bitset */
+    protected final int nbWords;
+    /** Sparse set of the non-empty chunks */
+    protected final int[] index;
+    /** Sparse set of the non-zero words of each bitmap chunk */
+    protected final int[][] wordIndex;
+    /** Positions of each array chunk */
+    protected final char[][] positions;
+    /** Bits of the array container of m when an array chunk is intersected with it (see mark) */
+    private final long[] marks;
+
+    AbstractRoaringCover(int nbWords) {
+        this.nbWords = nbWords;
+        int nbChunks = (nbWords + CHUNK_WORDS - 1) / CHUNK_WORDS;
+        index = new int[nbChunks];
+        wordIndex = new int[nbChunks][];
+        positions = new char[nbChunks][];
+        marks = new long[Math.min(CHUNK_WORDS, nbWords)];
+    }
+
+    abstract int getLimit();
+    abstract void setLimit(int limit);
+    abstract int getMode(int k);
+    abstract void setMode(int k, int mode);
+    abstract int getCard(int k);
+    abstract void setCard(int k, int card);
+    abstract long getWord(int k, int w);
+    abstract void setWord(int k, int w, long word);
+    abstract int getWordLimit(int k);
+    abstract void setWordLimit(int k, int wordLimit);
+
+    /**
+     * @return number of words of the chunk k
+     */
+    int getNbWords(int k) {
+        return Math.min(CHUNK_WORDS, nbWords - k * CHUNK_WORDS);
+    }
+
+    /**
+     * @return the array of positions of the chunk k (allocated by the first call)
+     */
+    char[] getPositions(int k) {
+        if (positions[k] == null) {
+            positions[k] = new char[ARRAY_MAX];
+        }
+        return positions[k];
+    }
+
+    /**
+     * @return true if the bit at the position v of the bitmap chunk k is set to 1
+     */
+    private boolean hasBit(int k, char v) {
+        int w = v >>> 6;
+        return w < getNbWords(k) && (getWord(k, w) & (1L << v)) != 0;
+    }
+
+    /**
+     * The positions of an array chunk are not sorted, so they can't be merged with the positions of an array container
+     * of m : when the chunk is not much smaller than the container, the positions of the container are marked in a
+     * bitmap so that each position of the chunk is checked in constant time instead of a binary search.
+     * @param card cardinality of the array chunk
+     * @return true if the positions of the container c of m are marked (they must be unmarked after the intersection)
+     */
+    private boolean mark(int card, RoaringBitSet m, int c) {
+        if (m.type(c) != ARRAY || 16 * card < m.card(c)) {
+            return false;
+        }
+        for (char v : m.positions(c)) {
+            marks[v >>> 6] |= 1L << v;
+        }
+        return true;
+    }
+
+    private void unmark(RoaringBitSet m, int c) {
+        for (char v : m.positions(c)) {
+            marks[v >>> 6] = 0;
+        }
+    }
+
+    /**
+     * @return true if the bit at the position v of the container c of m is set to 1
+     */
+    private boolean contains(boolean marked, RoaringBitSet m, int c, char v) {
+        return marked ? (marks[v >>> 6] & (1L << v)) != 0 : m.contains(c, v);
+    }
+
+    public boolean isEmpty() {
+        return getLimit() == -1;
+    }
+
+    public int cardinality() {
+        int sum = 0;
+        for (int i = getLimit(); i >= 0; i--) {
+            sum += getCard(index[i]);
+        }
+        return sum;
+    }
+
+    private void removeChunk(int i) {
+        int limit = getLimit();
+        int k = index[i];
+        index[i] = index[limit];
+        index[limit] = k;
+        setLimit(limit - 1);
+    }
+
+    /**
+     * Bitwise AND with m
+     * @param m bitset to intersect with
+     */
+    public void and(RoaringBitSet m) {
+        for (int i = getLimit(); i >= 0; i--) {
+            int k = index[i];
+            int c = m.container(k);
+            int card = c == -1 ? 0 : getMode(k) == ARRAY ? andArray(k, m, c) : andBitmap(k, m, c);
+            if (card == 0) {
+                removeChunk(i);
+            }
+        }
+    }
+
+    private int andArray(int k, RoaringBitSet m, int c) {
+        char[] p = positions[k];
+        int card = getCard(k);
+        int size = card;
+        boolean marked = mark(card, m, c);
+        for (int j = card - 1; j >= 0; j--) {
+            if (!contains(marked, m, c, p[j])) {
+                char v = p[j];
+                p[j] = p[--size];
+                p[size] = v;
+            }
+        }
+        if (marked) unmark(m, c);
+        if (size != card && size > 0) {
+            setCard(k, size);
+        }
+        return size;
+    }
+
+    private int andBitmap(int k, RoaringBitSet m, int c) {
+        if (m.type(c) == ARRAY) {
+            // the intersection is a subset of the positions of m : the chunk becomes an array
+            char[] p = getPositions(k);
+            int size = 0;
+            for (char v : m.positions(c)) {
+                if (hasBit(k, v)) {
+                    p[size++] = v;
+                }
+            }
+            if (size > 0) {
+                setMode(k, ARRAY);
+                setCard(k, size);
+            }
+            return size;
+        }
+        int[] words = wordIndex[k];
+        int wordLimit = getWordLimit(k);
+        int newLimit = wordLimit;
+        int card = 0;
+        for (int j = wordLimit; j >= 0; j--) {
+            int w = words[j];
+            long word = getWord(k, w);
+            long newWord = word & m.word(c, w);
+            if (newWord != word) {
+                setWord(k, w, newWord);
+            }
+            if (newWord == 0) {
+                words[j] = words[newLimit];
+                words[newLimit--] = w;
+            }
+            else {
+                card += Long.bitCount(newWord);
+            }
+        }
+        if (card == 0) {
+            return 0;
+        }
+        if (newLimit != wordLimit) {
+            setWordLimit(k, newLimit);
+        }
+        if (card <= ARRAY_MAX) {
+            char[] p = getPositions(k);
+            int size = 0;
+            for (int j = newLimit; j >= 0; j--) {
+                int w = words[j];
+                long word = getWord(k, w);
+                while (word != 0) {
+                    p[size++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            setMode(k, ARRAY);
+        }
+        if (card != getCard(k)) {
+            setCard(k, card);
+        }
+        return card;
+    }
+
+    /**
+     * Number of bits set to 1 in (this AND m) in the chunk k
+     */
+    private int andCount(int k, RoaringBitSet m, int c) {
+        int count = 0;
+        if (getMode(k) == ARRAY) {
+            char[] p = positions[k];
+            int card = getCard(k);
+            boolean marked = mark(card, m, c);
+            for (int j = card - 1; j >= 0; j--) {
+                if (contains(marked, m, c, p[j])) count++;
+            }
+            if (marked) unmark(m, c);
+        }
+        else if (m.type(c) == ARRAY) {
+            for (char v : m.positions(c)) {
+                if (hasBit(k, v)) count++;
+            }
+        }
+        else {
+            int[] words = wordIndex[k];
+            for (int j = getWordLimit(k); j >= 0; j--) {
+                count += Long.bitCount(getWord(k, words[j]) & m.word(c, words[j]));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Bitwise AND with m, count the number of bits set to 1 in the result (this bitset is not modified)
+     * @param m bitset to intersect with
+     * @return |this AND m|
+     */
+    public int andCount(RoaringBitSet m) {
+        int sum = 0;
+        for (int i = getLimit(); i >= 0; i--) {
+            int k = index[i];
+            int c = m.container(k);
+            if (c != -1) {
+                sum += andCount(k, m, c);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Check if the number of bits set to 1 in (this AND m) is at least t (this bitset is not modified). The count
+     * stops as soon as t bits are found or when the remaining chunks can no longer reach t.
+     * @param m bitset to intersect with
+     * @param t threshold
+     * @return true if |this AND m| &ge; t
+     */
+    public boolean andCountAtLeast(RoaringBitSet m, int t) {
+        if (t <= 0) return true;
+        int remaining = cardinality();
+        int sum = 0;
+        for (int i = getLimit(); i >= 0; i--) {
+            int k = index[i];
+            int c = m.container(k);
+            remaining -= getCard(k);
+            if (c != -1) {
+                sum += andCount(k, m, c);
+            }
+            if (sum >= t) return true;
+            if (sum + remaining < t) return false;
+        }
+        return false;
+    }
+
+    /**
+     * Check if this bitset is a subset of m
+     * @param m superset
+     * @return true if this bitset is a subset of m
+     */
+    public boolean isSubsetOf(RoaringBitSet m) {
+        for (int i = getLimit(); i >= 0; i--) {
+            int k = index[i];
+            int c = m.container(k);
+            if (c == -1 || getCard(k) > m.card(c)) return false;
+            if (getMode(k) == ARRAY) {
+                char[] p = positions[k];
+                int card = getCard(k);
+                boolean marked = mark(card, m, c);
+                boolean subset = true;
+                for (int j = card - 1; j >= 0 && subset; j--) {
+                    subset = contains(marked, m, c, p[j]);
+                }
+                if (marked) unmark(m, c);
+                if (!subset) return false;
+            }
+            else {
+                int[] words = wordIndex[k];
+                for (int j = getWordLimit(k); j >= 0; j--) {
+                    if ((getWord(k, words[j]) & ~m.word(c, words[j])) != 0) return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public BitSet toBitSet() {
+        BitSet bitSet = new BitSet();
+        for (int i = getLimit(); i >= 0; i--) {
+            int k = index[i];
+            int offset = k * RoaringBitSet.CHUNK_SIZE;
+            if (getMode(k) == ARRAY) {
+                for (int j = getCard(k) - 1; j >= 0; j--) {
+                    bitSet.set(offset + positions[k][j]);
+                }
+            }
+            else {
+                for (int j = getWordLimit(k); j >= 0; j--) {
+                    int w = wordIndex[k][j];
+                    long word = getWord(k, w);
+                    while (word != 0) {
+                        bitSet.set(offset + (w << 6) + Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+            }
+        }
+        return bitSet;
+    }
+}
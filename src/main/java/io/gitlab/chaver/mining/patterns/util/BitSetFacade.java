@@ -18,6 +18,7 @@ public interface BitSetFacade {
     int maskCardinality();
     void and(int i);
     int andCount(int i);
+    boolean andCountAtLeast(int i, int k);
     void andMask(int i);
     void resetMask();
     boolean isSubsetOf(int i);
@@ -15,16 +15,39 @@ import org.chocosolver.solver.Model;
 public class BitSetFactory {
 
     public static BitSetFacade getBitSet(String type, TransactionalDatabase database, Model model) {
-        if (type.equals(RSparseBitSetFacade.TYPE)) {
-            return new RSparseBitSetFacade(database, model, database.getNbTransactions());
+        checkType(type, database);
+        if (database.getCoverStore() != null) {
+            return new MappedBitSetFacade(database.getCoverStore(), model, database.getNbTransactions());
         }
-        throw new RuntimeException("Incorrect BitSet type : " + type);
+        if (type.equals(RoaringBitSetFacade.TYPE)) {
+            return new RoaringBitSetFacade(database, model, database.getNbTransactions());
+        }
+        return new RSparseBitSetFacade(database, model, database.getNbTransactions());
     }
 
     public static BitSetFacade getBitSet1(String type, TransactionalDatabase database, Model model) {
-        if (type.equals(RSparseBitSetFacade.TYPE)) {
-            return new RSparseBitSetFacade(database, model, database.getDatasetAsLongArray()[0]);
+        checkType(type, database);
+        if (database.getCoverStore() != null) {
+            return new MappedBitSetFacade(database.getCoverStore(), model, database.getCoverStore().getWords(0));
+        }
+        if (type.equals(RoaringBitSetFacade.TYPE)) {
+            return new RoaringBitSetFacade(database, model, database.getCover(0).toLongArray());
+        }
+        return new RSparseBitSetFacade(database, model, database.getDatasetAsLongArray()[0]);
+    }
+
+    /**
+     * Check that the type of bitset is supported by the database : a memory-mapped database only supports the sparse
+     * type (its covers are read by a MappedBitSetFacade, the compressed covers would have to be built in the heap)
+     * @param type type of bitset
+     * @param database database
+     */
+    private static void checkType(String type, TransactionalDatabase database) {
+        if (!type.equals(RSparseBitSetFacade.TYPE) && !type.equals(RoaringBitSetFacade.TYPE)) {
+            throw new RuntimeException("Incorrect BitSet type : " + type);
+        }
+        if (database.getCoverStore() != null && !type.equals(RSparseBitSetFacade.TYPE)) {
+            throw new RuntimeException("Incorrect BitSet type for a memory-mapped database : " + type);
         }
-        throw new RuntimeException("Incorrect BitSet type : " + type);
     }
 }
@@ -11,5 +11,6 @@ package io.gitlab.chaver.mining.patterns.util;
 
 public class ConstraintSettings {
 
+    /** Type of the covers created by BitSetFactory : RSparseBitSetFacade.TYPE or RoaringBitSetFacade.TYPE */
     public static String BITSET_TYPE = RSparseBitSetFacade.TYPE;
 }
@@ -0,0 +1,106 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.util;
+
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+/**
+ * Projection of a database on the items which can belong to a FreqRare pattern, to be done before building the model.
+ * If x is a solution and i in x, then freq(i) &ge; freq(x) &ge; min MIS of x = MIS(j) for some j in x such that
+ * freq(j) &ge; MIS(j). So, with m = min{MIS(j) | freq(j) &ge; MIS(j)}, each item i such that freq(i) &lt; m can't belong to
+ * a solution (m is at least the min MIS of all the items). The transactions which contain none of the remaining items
+ * are also removed : they don't belong to the cover of any (non empty) solution, so the frequency of the solutions is
+ * the same in both databases.
+ * The class items are always kept, the items of the projected database keep their original names.
+ */
+public class FreqRareProjection {
+
+    private final TransactionalDatabase database; // projected database
+    private final int[] mis; // MIS of the items of the projected database
+    private final int[] itemIndexes; // index in the original database of each item of the projected database
+    private final int[] transactions; // index in the original database of each transaction of the projected database
+
+    public FreqRareProjection(TransactionalDatabase original, int[] mis) {
+        int nbClass = original.getNbClass();
+        int[] itemFreq = original.computeItemFreq();
+        int minSupport = IntStream
+                .range(nbClass, original.getNbItems())
+                .filter(i -> itemFreq[i] >= mis[i])
+                .map(i -> mis[i])
+                .min()
+                .orElse(Integer.MAX_VALUE);
+        this.itemIndexes = IntStream
+                .range(0, original.getNbItems())
+                .filter(i -> i < nbClass || itemFreq[i] >= minSupport)
+                .toArray();
+        BitSet keptTransactions = new BitSet(original.getNbTransactions());
+        for (int k = nbClass; k < itemIndexes.length; k++) {
+            keptTransactions.or(original.getCover(itemIndexes[k]));
+        }
+        this.transactions = keptTransactions.stream().toArray();
+        int[] newIndex = new int[original.getNbTransactions()];
+        for (int t = 0; t < transactions.length; t++) {
+            newIndex[transactions[t]] = t;
+        }
+        BitSet[] verticalRepresentation = new BitSet[itemIndexes.length];
+        int[] items = new int[itemIndexes.length];
+        this.mis = new int[itemIndexes.length];
+        for (int k = 0; k < itemIndexes.length; k++) {
+            int i = itemIndexes[k];
+            BitSet cover = original.getCover(i);
+            BitSet projectedCover = new BitSet(transactions.length);
+            for (int t = cover.nextSetBit(0); t >= 0; t = cover.nextSetBit(t + 1)) {
+                if (keptTransactions.get(t)) {
+                    projectedCover.set(newIndex[t]);
+                }
+            }
+            verticalRepresentation[k] = projectedCover;
+            items[k] = original.getItems()[i];
+            this.mis[k] = mis[i];
+        }
+        int[][] values = new int[original.getValues().length][];
+        for (int m = 0; m < values.length; m++) {
+            int[] itemValues = original.getValues()[m];
+            values[m] = IntStream.of(itemIndexes).map(i -> itemValues[i]).toArray();
+        }
+        this.database = new TransactionalDatabase(items, values, nbClass, verticalRepresentation, transactions.length);
+    }
+
+    /**
+     * @return the projected database
+     */
+    public TransactionalDatabase getDatabase() {
+        return database;
+    }
+
+    /**
+     * @return the MIS of the items of the projected database
+     */
+    public int[] getMis() {
+        return mis;
+    }
+
+    /**
+     * @return the index in the original database of each item of the projected database
+     */
+    public int[] getItemIndexes() {
+        return itemIndexes;
+    }
+
+    /**
+     * @return the index in the original database of each transaction of the projected database
+     */
+    public int[] getTransactions() {
+        return transactions;
+    }
+}
@@ -10,6 +10,13 @@
 
 package io.gitlab.chaver.mining.patterns.util;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
@@ -45,30 +52,161 @@ public class MISCalculator {
 
 
     public int[] computeMIS() {
-        int[] itemFrequencies = database.computeItemFreq(); // Get frequencies of items
-        int[] misValues = new int[itemFrequencies.length]; // Array to store MIS values
+        return computeMIS(database.computeItemFreq(), beta, misMin);
+    }
+
+    /**
+     * Compute the MIS values from the frequency of the items : MIS[i] = max(beta * itemFrequencies[i], MIS_min)
+     * (e.g. with the frequencies counted by DatFrequencyCounter, without building the database)
+     * @param itemFrequencies frequency of each item
+     * @param beta Parameter β ∈ [0,1]
+     * @param misMin Minimum allowed support
+     * @return Array of MIS values for each item
+     */
+    public static int[] computeMIS(int[] itemFrequencies, double beta, int misMin) {
+        double[] betas = new double[itemFrequencies.length];
+        Arrays.fill(betas, beta);
+        return computeMIS(itemFrequencies, betas, misMin);
+    }
+
+    /**
+     * MIS of an item : max(beta * freq, misMin) rounded up to the next integer
+     * @param beta Parameter β of the item
+     * @param freq frequency of the item
+     * @param misMin Minimum allowed support (e.g. scaled to the dominant class of the item, see computeClassMIS())
+     * @return MIS of the item
+     */
+    private static int mis(double beta, int freq, double misMin) {
+        return (int) Math.ceil(Math.max(beta * freq, misMin));
+    }
+
+    /**
+     * Compute the MIS values from the frequency of the items with a value of beta per item :
+     * MIS[i] = max(betas[i] * itemFrequencies[i], MIS_min)
+     * @param itemFrequencies frequency of each item
+     * @param betas value of β of each item
+     * @param misMin Minimum allowed support
+     * @return Array of MIS values for each item
+     */
+    public static int[] computeMIS(int[] itemFrequencies, double[] betas, int misMin) {
+        int[] misValues = new int[itemFrequencies.length];
+        for (int i = 0; i < itemFrequencies.length; i++) {
+            misValues[i] = mis(betas[i], itemFrequencies[i], misMin);
+        }
+        return misValues;
+    }
 
+    /**
+     * Compute the MIS values of all items for several values of beta, with a single computation of the frequency of
+     * the items : MIS_b[i] = max(betas[b] * frequency(i), MIS_min)
+     * @param database Transactional dataset
+     * @param betas values of β
+     * @param misMin Minimum allowed support
+     * @return an array such that the b-th row contains the MIS values for betas[b]
+     */
+    public static int[][] computeMIS(TransactionalDatabase database, double[] betas, int misMin) {
+        int[] itemFrequencies = database.computeItemFreq();
+        int[][] misValues = new int[betas.length][itemFrequencies.length];
         for (int i = 0; i < itemFrequencies.length; i++) {
-            // Compute MIS for item i using the formula: MIS(i) = max(beta * freq(i), MIS_min)
-            misValues[i] = (int) Math.ceil(Math.max(beta * itemFrequencies[i], misMin));
+            for (int b = 0; b < betas.length; b++) {
+                misValues[b][i] = mis(betas[b], itemFrequencies[i], misMin);
+            }
         }
+        return misValues;
+    }
 
+    /**
+     * Compute class-conditional MIS values, so that the items of a small class are not pruned by a MIS_min which is
+     * reached by the large classes only. Let D_k be the set of transactions of the class k and freq_k(i) the frequency
+     * of the item i in D_k : the dominant class of i is the class k which maximizes freq_k(i) / |D_k| and
+     * MIS[i] = max(betas[i] * freq_k(i), MIS_min * |D_k| / |D|). If the database has no class, D is the
+     * only class, i.e. MIS[i] = max(betas[i] * freq(i), MIS_min). The MIS of the class items is not class-conditional.
+     * The frequencies are computed by a single pass over the words of the covers (one popcount per word and class),
+     * the covers of a memory-mapped database are read from the file.
+     * @param database Transactional dataset
+     * @param betas value of β of each item (e.g. given by groups of items, see FreqRareMining)
+     * @param misMin Minimum allowed support
+     * @return Array of MIS values for each item
+     */
+    public static int[] computeClassMIS(TransactionalDatabase database, double[] betas, int misMin) {
+        int nbClass = database.getNbClass();
+        int nbTransactions = database.getNbTransactions();
+        LongBuffer[] columns = database.getColumns();
+        int[] classSize = new int[nbClass];
+        for (int k = 0; k < nbClass; k++) {
+            LongBuffer classWords = columns[k];
+            for (int w = 0; w < classWords.limit(); w++) {
+                classSize[k] += Long.bitCount(classWords.get(w));
+            }
+        }
+        int[] misValues = new int[columns.length];
+        int[] classFreq = new int[nbClass];
+        for (int i = 0; i < columns.length; i++) {
+            LongBuffer itemWords = columns[i];
+            int freq = 0;
+            Arrays.fill(classFreq, 0);
+            for (int w = 0; w < itemWords.limit(); w++) {
+                long word = itemWords.get(w);
+                if (word == 0) continue;
+                freq += Long.bitCount(word);
+                if (i < nbClass) continue;
+                for (int k = 0; k < nbClass; k++) {
+                    LongBuffer classWords = columns[k];
+                    if (w < classWords.limit()) {
+                        classFreq[k] += Long.bitCount(word & classWords.get(w));
+                    }
+                }
+            }
+            int dominant = -1; // class which maximizes classFreq[k] / classSize[k]
+            for (int k = 0; k < nbClass && i >= nbClass; k++) {
+                if (classSize[k] > 0 && (dominant == -1 ||
+                        (long) classFreq[k] * classSize[dominant] > (long) classFreq[dominant] * classSize[k])) {
+                    dominant = k;
+                }
+            }
+            int dominantFreq = dominant == -1 ? freq : classFreq[dominant];
+            int dominantSize = dominant == -1 ? nbTransactions : classSize[dominant];
+            double minSupport = nbTransactions == 0 ? misMin : (double) misMin * dominantSize / nbTransactions;
+            misValues[i] = mis(betas[i], dominantFreq, minSupport);
+        }
         return misValues;
     }
 
+    /**
+     * Write the MIS values in a file where each line is an item followed by its MIS (the format of the --mis option
+     * of the freqrare command)
+     * @param path path of the file
+     * @param items name of the items
+     * @param misValues MIS of each item
+     * @throws IOException if the file can't be written
+     */
+    public static void writeMIS(String path, int[] items, int[] misValues) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(Paths.get(path), StandardCharsets.UTF_8))) {
+            for (int i = 0; i < items.length; i++) {
+                writer.println(items[i] + " " + misValues[i]);
+            }
+        }
+    }
+
     /**
      * Prints the MIS values for all items.
      */
     public void printMIS() {
-        int[] misValues = computeMIS();
-        int[] items = database.getItems();
+        int[] itemFrequencies = database.computeItemFreq();
+        int[] misValues = computeMIS(itemFrequencies, beta, misMin);
+        printMIS(database.getItems(), itemFrequencies, misValues);
+    }
 
+    /**
+     * Prints the MIS values for all items.
+     * @param items name of the items
+     * @param itemFrequencies frequency of each item
+     * @param misValues MIS of each item
+     */
+    public static void printMIS(int[] items, int[] itemFrequencies, int[] misValues) {
         System.out.println("Item\tFrequency\tMIS");
         for (int i = 0; i < items.length; i++) {
-            int frequency = database.computeItemFreq()[i];
-            System.out.printf("%d\t%d\t\t%d%n", items[i], frequency, misValues[i]);
+            System.out.printf("%d\t%d\t\t%d%n", items[i], itemFrequencies[i], misValues[i]);
         }
     }
-    
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.util;
+
+import io.gitlab.chaver.mining.patterns.io.MappedCoverStore;
+import org.chocosolver.solver.Model;
+
+import java.nio.LongBuffer;
+import java.util.BitSet;
+
+/**
+ * Reversible bitset whose operands (the covers of the items) are read from a memory-mapped file : the words of the
+ * cover of an item are read directly in the mapped buffer, only at the offsets of the non-zero words of the bitset (see
+ * RSparseBitSet.and(LongBuffer)), so only the reversible bitset is stored in the heap and only the pages of the covers
+ * which are needed are loaded.
+ */
+public class MappedBitSetFacade implements BitSetFacade {
+
+    private final LongBuffer[] columns;
+    private final RSparseBitSet bitSet;
+
+    public MappedBitSetFacade(MappedCoverStore store, Model model, int nbits) {
+        columns = store.getColumns();
+        bitSet = new RSparseBitSet(model, nbits);
+    }
+
+    public MappedBitSetFacade(MappedCoverStore store, Model model, long[] words) {
+        columns = store.getColumns();
+        bitSet = new RSparseBitSet(model, words);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return bitSet.isEmpty();
+    }
+
+    @Override
+    public int cardinality() {
+        return bitSet.cardinality();
+    }
+
+    @Override
+    public int maskCardinality() {
+        return bitSet.maskCardinality();
+    }
+
+    @Override
+    public void and(int i) {
+        bitSet.and(columns[i]);
+    }
+
+    @Override
+    public int andCount(int i) {
+        return bitSet.andCount(columns[i]);
+    }
+
+    @Override
+    public boolean andCountAtLeast(int i, int k) {
+        return bitSet.andCountAtLeast(columns[i], k);
+    }
+
+    @Override
+    public void andMask(int i) {
+        bitSet.andMask(columns[i]);
+    }
+
+    @Override
+    public void resetMask() {
+        bitSet.resetMask();
+    }
+
+    @Override
+    public boolean isSubsetOf(int i) {
+        return bitSet.isSubsetOf(columns[i]);
+    }
+
+    @Override
+    public boolean maskIsSubsetOf(int i) {
+        return bitSet.maskIsSubsetOf(columns[i]);
+    }
+
+    @Override
+    public BitSet getWords() {
+        return bitSet.convertToBitset();
+    }
+}
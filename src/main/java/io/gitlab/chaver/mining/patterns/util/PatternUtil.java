@@ -56,20 +56,38 @@ public class PatternUtil {
      * @return the closed pattern associated to p
      */
     public static int[] findClosedPattern(Pattern p, TransactionalDatabase database) {
-        BitSet cover = new BitSet(database.getNbTransactions());
+        BitSet all = new BitSet(database.getNbTransactions());
+        all.set(0, database.getNbTransactions());
+        long[] cover = Arrays.copyOf(all.toLongArray(), (database.getNbTransactions() + 63) >>> 6);
         Map<Integer, Integer> itemIndexes = database.getItemsMap();
-        cover.set(0, database.getNbTransactions());
+        long[][] dataset = database.getDatasetAsLongArray();
         for (int i : p.getItems()) {
-            cover.and(database.getVerticalRepresentation()[itemIndexes.get(i)]);
+            long[] itemWords = dataset[itemIndexes.get(i)];
+            for (int w = 0; w < cover.length; w++) {
+                cover[w] &= w < itemWords.length ? itemWords[w] : 0;
+            }
         }
         Set<Integer> closure = new TreeSet<>();
         for (int i = database.getNbClass(); i < database.getNbItems(); i++) {
-            BitSet temp = (BitSet) cover.clone();
-            temp.and(database.getVerticalRepresentation()[i]);
-            if (temp.cardinality() == cover.cardinality()) {
+            if (isSubsetOf(cover, dataset[i])) {
                 closure.add(database.getItems()[i]);
             }
         }
         return closure.stream().mapToInt(Integer::intValue).toArray();
     }
+
+    /**
+     * Check if the cover is a subset of the cover of an item
+     * @param cover words of the cover
+     * @param itemWords words of the cover of the item
+     * @return true if cover is a subset of the cover of the item
+     */
+    private static boolean isSubsetOf(long[] cover, long[] itemWords) {
+        for (int w = 0; w < cover.length; w++) {
+            if ((cover[w] & ~(w < itemWords.length ? itemWords[w] : 0)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,196 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.util;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.IStateLong;
+import org.chocosolver.solver.Model;
+
+import java.util.BitSet;
+
+import static io.gitlab.chaver.mining.patterns.util.RoaringBitSet.ARRAY;
+import static io.gitlab.chaver.mining.patterns.util.RoaringBitSet.ARRAY_MAX;
+import static io.gitlab.chaver.mining.patterns.util.RoaringBitSet.BITMAP;
+import static io.gitlab.chaver.mining.patterns.util.RoaringBitSet.CHUNK_WORDS;
+
+/**
+ * Reversible compressed bitset (e.g. the cover of an itemset) which is intersected with RoaringBitSets (e.g. the covers
+ * of the items), see AbstractRoaringCover. The limits of the sparse sets, the modes and the cardinalities of the
+ * chunks and the words of the bitmap chunks are reversible variables : the positions of an array chunk are only
+ * swapped inside [0, card[, so restoring the cardinality restores the array. When a bitmap chunk becomes an array,
+ * its words are no longer modified, so they are still valid if the chunk is a bitmap again after a backtrack.
+ */
+public class RRoaringBitSet extends AbstractRoaringCover {
+
+    private final IStateInt limit;
+    private final IStateInt[] modes;
+    private final IStateInt[] cards;
+    private final IStateInt[] wordLimits;
+    private final IStateLong[][] words;
+
+    private final RoaringMask mask;
+
+    /**
+     * Instanciate a RRoaringBitSet with nbits set to 1
+     * @param model model used to create backtracking variables
+     * @param nbits fixed number of bits to set to 1
+     */
+    public RRoaringBitSet(Model model, int nbits) {
+        this(model, allSet(nbits));
+    }
+
+    /**
+     * Instantiate a RRoaringBitSet with words
+     * @param model model used to create backtracking variables
+     * @param words words to create the bitset
+     */
+    public RRoaringBitSet(Model model, long[] words) {
+        super(words.length);
+        modes = new IStateInt[index.length];
+        cards = new IStateInt[index.length];
+        wordLimits = new IStateInt[index.length];
+        this.words = new IStateLong[index.length][];
+        IEnvironment environment = model.getEnvironment();
+        limit = environment.makeInt(init(environment, words));
+        mask = new RoaringMask(words.length);
+    }
+
+    private static long[] allSet(int nbits) {
+        BitSet b = new BitSet(nbits);
+        b.set(0, nbits);
+        return b.toLongArray();
+    }
+
+    /**
+     * Create the chunks : a chunk with at most ARRAY_MAX bits set to 1 is an array, the other ones are bitmaps
+     * @return limit of the sparse set of the non-empty chunks
+     */
+    private int init(IEnvironment environment, long[] initWords) {
+        int limitValue = -1;
+        int last = index.length;
+        for (int k = 0; k < index.length; k++) {
+            int from = k * CHUNK_WORDS;
+            int nbChunkWords = getNbWords(k);
+            int card = 0;
+            int nbNonZero = 0;
+            for (int w = from; w < from + nbChunkWords; w++) {
+                card += Long.bitCount(initWords[w]);
+                if (initWords[w] != 0) nbNonZero++;
+            }
+            if (card == 0) {
+                index[--last] = k;
+                continue;
+            }
+            index[++limitValue] = k;
+            cards[k] = environment.makeInt(card);
+            if (card <= ARRAY_MAX) {
+                modes[k] = environment.makeInt(ARRAY);
+                char[] p = positions[k] = new char[card];
+                int size = 0;
+                for (int w = 0; w < nbChunkWords; w++) {
+                    long word = initWords[from + w];
+                    while (word != 0) {
+                        p[size++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+            }
+            else {
+                modes[k] = environment.makeInt(BITMAP);
+                words[k] = new IStateLong[nbChunkWords];
+                // non-zero words first
+                int[] chunkIndex = wordIndex[k] = new int[nbChunkWords];
+                int nonZero = 0;
+                int zero = nbNonZero;
+                for (int w = 0; w < nbChunkWords; w++) {
+                    words[k][w] = environment.makeLong(initWords[from + w]);
+                    chunkIndex[initWords[from + w] != 0 ? nonZero++ : zero++] = w;
+                }
+                wordLimits[k] = environment.makeInt(nbNonZero - 1);
+            }
+        }
+        return limitValue;
+    }
+
+    @Override
+    int getLimit() {
+        return limit.get();
+    }
+
+    @Override
+    void setLimit(int limit) {
+        this.limit.set(limit);
+    }
+
+    @Override
+    int getMode(int k) {
+        return modes[k].get();
+    }
+
+    @Override
+    void setMode(int k, int mode) {
+        modes[k].set(mode);
+    }
+
+    @Override
+    int getCard(int k) {
+        return cards[k].get();
+    }
+
+    @Override
+    void setCard(int k, int card) {
+        cards[k].set(card);
+    }
+
+    @Override
+    long getWord(int k, int w) {
+        return words[k][w].get();
+    }
+
+    @Override
+    void setWord(int k, int w, long word) {
+        words[k][w].set(word);
+    }
+
+    @Override
+    int getWordLimit(int k) {
+        return wordLimits[k].get();
+    }
+
+    @Override
+    void setWordLimit(int k, int wordLimit) {
+        wordLimits[k].set(wordLimit);
+    }
+
+    /**
+     * Set the mask to the current value of the bitset (the buffers of the mask are reused)
+     */
+    public void resetMask() {
+        mask.reset(this);
+    }
+
+    public void andMask(RoaringBitSet m) {
+        mask.and(m);
+    }
+
+    public int maskCardinality() {
+        return mask.cardinality();
+    }
+
+    /**
+     * Check if mask is a subset of m
+     * @param m superset
+     * @return true if mask is a subset of m
+     */
+    public boolean maskIsSubsetOf(RoaringBitSet m) {
+        return mask.isSubsetOf(m);
+    }
+}
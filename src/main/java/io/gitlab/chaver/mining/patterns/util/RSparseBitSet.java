@@ -13,13 +13,16 @@ import org.chocosolver.memory.IStateInt;
 import org.chocosolver.memory.IStateLong;
 import org.chocosolver.solver.Model;
 
+import java.nio.LongBuffer;
 import java.util.BitSet;
 import java.util.stream.IntStream;
 
 /**
  * Reversible bitset : for more information, see the following papers :
  * Compact-Table: Efficiently Filtering Table Constraints with Reversible Sparse Bit-Sets (Demeulenaere et al.)
- *
+ * The operations take the words of an item either as an array (covers stored in the heap) or as a buffer (covers of a
+ * memory-mapped database, see MappedBitSetFacade) : each case has its own loop, so that the heap path stays a loop over
+ * a primitive array without allocation.
  */
 public class RSparseBitSet {
 
@@ -28,6 +31,8 @@ public class RSparseBitSet {
     private IStateInt limit;
 
     private SparseBitSet mask;
+    private long[] maskWords; // buffer of the words of the mask (reused by each call to resetMask())
+    private int[] maskIndex; // buffer of the index of the mask
 
     /**
      * Instanciate a RSparseBitSet with nbits set to 1
@@ -46,6 +51,8 @@ public class RSparseBitSet {
         limit = model.getEnvironment().makeInt(size - 1);
         index = IntStream.range(0, size).toArray();
         mask = new SparseBitSet();
+        maskWords = new long[size];
+        maskIndex = new int[size];
     }
 
     /**
@@ -64,6 +71,8 @@ public class RSparseBitSet {
             checkWord(index[i], i);
         }
         mask = new SparseBitSet();
+        maskWords = new long[words.length];
+        maskIndex = new int[words.length];
     }
 
     /**
@@ -117,14 +126,91 @@ public class RSparseBitSet {
         return sum;
     }
 
+    /**
+     * Check if the number of bits set to 1 in (words AND m) is at least k (words is not modified). The count stops as
+     * soon as k bits are found or when the remaining words can no longer reach k.
+     * @param m array to intersect with
+     * @param k threshold
+     * @return true if |words AND m| &ge; k
+     */
+    public boolean andCountAtLeast(long[] m, int k) {
+        if (k <= 0) return true;
+        int sum = 0;
+        for (int i = limit.get(); i >= 0; i--) {
+            int offset = index[i];
+            sum += Long.bitCount(words[offset].get() & getValue(m, offset));
+            if (sum >= k) return true;
+            // i words remain, each one has at most 64 bits set to 1
+            if (sum + ((long) i << 6) < k) return false;
+        }
+        return false;
+    }
+
+    /**
+     * Bitwise AND between words and m (only the words of m at the offsets of the non-zero words are read, e.g. the
+     * pages of a memory-mapped cover which are not needed are not loaded)
+     * @param m buffer to intersect with (absolute reads, its position is not modified)
+     */
+    public void and(LongBuffer m) {
+        for (int i = limit.get(); i >= 0; i--) {
+            int offset = index[i];
+            long w = words[offset].get() & getValue(m, offset);
+            words[offset].set(w);
+            checkWord(offset, i);
+        }
+    }
+
+    /**
+     * Like andCount(long[]) but m is a buffer (see and(LongBuffer))
+     * @param m buffer to intersect with
+     */
+    public int andCount(LongBuffer m) {
+        int sum = 0;
+        for (int i = limit.get(); i >= 0; i--) {
+            int offset = index[i];
+            sum += Long.bitCount(words[offset].get() & getValue(m, offset));
+        }
+        return sum;
+    }
+
+    /**
+     * Like andCountAtLeast(long[], int) but m is a buffer (see and(LongBuffer))
+     * @param m buffer to intersect with
+     * @param k threshold
+     * @return true if |words AND m| &ge; k
+     */
+    public boolean andCountAtLeast(LongBuffer m, int k) {
+        if (k <= 0) return true;
+        int sum = 0;
+        for (int i = limit.get(); i >= 0; i--) {
+            int offset = index[i];
+            sum += Long.bitCount(words[offset].get() & getValue(m, offset));
+            if (sum >= k) return true;
+            // i words remain, each one has at most 64 bits set to 1
+            if (sum + ((long) i << 6) < k) return false;
+        }
+        return false;
+    }
+
+    /**
+     * Set the mask to the current value of words (the buffers of the mask are reused, no allocation)
+     */
     public void resetMask() {
-        mask.reset(copyWords(), index.clone(), limit.get());
+        for (int i = 0; i < words.length; i++) {
+            maskWords[i] = words[i].get();
+        }
+        System.arraycopy(index, 0, maskIndex, 0, index.length);
+        mask.reset(maskWords, maskIndex, limit.get());
     }
 
     public void andMask(long[] m) {
         mask.and(m);
     }
 
+    public void andMask(LongBuffer m) {
+        mask.and(m);
+    }
+
     private long[] copyWords() {
         long[] copyWords = new long[words.length];
         for (int i = 0; i < words.length; i++) {
@@ -148,6 +234,21 @@ public class RSparseBitSet {
         return true;
     }
 
+    /**
+     * Like isSubsetOf(long[]) but m is a buffer (see and(LongBuffer))
+     * @param m superset
+     * @return true if words is a subset of m
+     */
+    public boolean isSubsetOf(LongBuffer m) {
+        for (int i = 0; i <= limit.get(); i++) {
+            int offset = index[i];
+            if ((~getValue(m, offset) & words[offset].get()) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Check if mask is a subset of m (ex : 100 is a subset of 110)
      * @param m superset
@@ -157,6 +258,10 @@ public class RSparseBitSet {
         return mask.isSubsetOf(m);
     }
 
+    public boolean maskIsSubsetOf(LongBuffer m) {
+        return mask.isSubsetOf(m);
+    }
+
     /**
      * Return value of specified index offset
      * @param m array of long
@@ -167,6 +272,16 @@ public class RSparseBitSet {
         return offset < m.length ? m[offset] : 0;
     }
 
+    /**
+     * Return value of specified index offset (absolute read)
+     * @param m buffer of long
+     * @param offset index
+     * @return m.get(offset) if offset < m.limit(), 0 otherwise
+     */
+    private long getValue(LongBuffer m, int offset) {
+        return offset < m.limit() ? m.get(offset) : 0;
+    }
+
     /**
      * Check if words[offset] is equals to 0, if it's the case, then we swap index[i] and index[limit] and we decrease
      *  limit of 1
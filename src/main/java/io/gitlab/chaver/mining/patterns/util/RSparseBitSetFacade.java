@@ -16,7 +16,7 @@ import java.util.BitSet;
 
 public class RSparseBitSetFacade implements BitSetFacade {
 
-    private long[][] dataset;
+    private final long[][] dataset; // shared by all the bitsets of the database (read-only)
     private RSparseBitSet bitSet;
 
     public final static String TYPE = "sparse";
@@ -57,6 +57,11 @@ public class RSparseBitSetFacade implements BitSetFacade {
         return bitSet.andCount(dataset[i]);
     }
 
+    @Override
+    public boolean andCountAtLeast(int i, int k) {
+        return bitSet.andCountAtLeast(dataset[i], k);
+    }
+
     @Override
     public void andMask(int i) {
         bitSet.andMask(dataset[i]);
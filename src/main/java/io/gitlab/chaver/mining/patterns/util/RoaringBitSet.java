@@ -0,0 +1,286 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Immutable compressed bitset (e.g. the cover of an item), for more information, see the following paper :
+ * Better bitmap performance with Roaring bitmaps (Chambi et al.)
+ * The bits are split in chunks of 2^16 bits and each non-empty chunk is stored in the smallest container :
+ * - array container : sorted positions of the bits set to 1 in the chunk (at most ARRAY_MAX positions)
+ * - bitmap container : the 1024 words of the chunk
+ * - run container : sorted runs of bits set to 1 (start of the run, length of the run - 1)
+ * A sparse cover is mostly stored in array containers, i.e. 2 bytes per transaction of the cover instead of the
+ * 8KB of the words of a chunk.
+ */
+public class RoaringBitSet {
+
+    /** Number of bits of a chunk */
+    static final int CHUNK_SIZE = 1 << 16;
+    /** Number of words of a chunk */
+    static final int CHUNK_WORDS = CHUNK_SIZE >>> 6;
+    /** Max number of positions of an array container */
+    static final int ARRAY_MAX = 4096;
+
+    static final int ARRAY = 0;
+    static final int BITMAP = 1;
+    static final int RUN = 2;
+
+    /** containerOf[k] = index of the container of the chunk k (-1 if the chunk is empty) */
+    private final int[] containerOf;
+    /** Type of each container (ARRAY, BITMAP or RUN) */
+    private final byte[] types;
+    /** Cardinality of each container */
+    private final int[] cards;
+    /** Positions of an array container, runs of a run container (null for a bitmap container) */
+    private final char[][] values;
+    /** Words of a bitmap container (null for the other containers) */
+    private final long[][] bitmaps;
+    /** Number of bits set to 1 */
+    private final int cardinality;
+
+    /**
+     * Compress the bitset whose words are given
+     * @param words words of the bitset (see BitSet.toLongArray())
+     */
+    public RoaringBitSet(long[] words) {
+        int nbChunks = (words.length + CHUNK_WORDS - 1) / CHUNK_WORDS;
+        containerOf = new int[nbChunks];
+        int nbContainers = 0;
+        int[] chunkCards = new int[nbChunks];
+        for (int k = 0; k < nbChunks; k++) {
+            for (int w = k * CHUNK_WORDS; w < Math.min(words.length, (k + 1) * CHUNK_WORDS); w++) {
+                chunkCards[k] += Long.bitCount(words[w]);
+            }
+            containerOf[k] = chunkCards[k] == 0 ? -1 : nbContainers++;
+        }
+        types = new byte[nbContainers];
+        cards = new int[nbContainers];
+        values = new char[nbContainers][];
+        bitmaps = new long[nbContainers][];
+        int total = 0;
+        for (int k = 0; k < nbChunks; k++) {
+            int c = containerOf[k];
+            if (c == -1) continue;
+            int from = k * CHUNK_WORDS;
+            int to = Math.min(words.length, from + CHUNK_WORDS);
+            int nbRuns = countRuns(words, from, to);
+            cards[c] = chunkCards[k];
+            total += chunkCards[k];
+            // size in bytes : 2 per position, 4 per run, 8192 for a bitmap
+            if (4 * nbRuns < Math.min(2 * cards[c], 8 * CHUNK_WORDS)) {
+                types[c] = RUN;
+                values[c] = toRuns(words, from, to, nbRuns);
+            }
+            else if (cards[c] <= ARRAY_MAX) {
+                types[c] = ARRAY;
+                values[c] = toArray(words, from, to, cards[c]);
+            }
+            else {
+                types[c] = BITMAP;
+                bitmaps[c] = new long[CHUNK_WORDS];
+                System.arraycopy(words, from, bitmaps[c], 0, to - from);
+            }
+        }
+        cardinality = total;
+    }
+
+    private static int countRuns(long[] words, int from, int to) {
+        int nbRuns = 0;
+        long previous = 0; // last bit of the previous word
+        for (int w = from; w < to; w++) {
+            long word = words[w];
+            // a run starts at each bit set to 1 whose previous bit is 0
+            nbRuns += Long.bitCount(word & ~((word << 1) | previous));
+            previous = word >>> 63;
+        }
+        return nbRuns;
+    }
+
+    private static char[] toArray(long[] words, int from, int to, int card) {
+        char[] positions = new char[card];
+        int size = 0;
+        for (int w = from; w < to; w++) {
+            long word = words[w];
+            while (word != 0) {
+                positions[size++] = (char) (((w - from) << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return positions;
+    }
+
+    private static char[] toRuns(long[] words, int from, int to, int nbRuns) {
+        char[] runs = new char[2 * nbRuns];
+        int end = 0;
+        for (int r = 0; r < nbRuns; r++) {
+            int start = nextBit(words, from, to, end, true);
+            end = nextBit(words, from, to, start, false);
+            runs[2 * r] = (char) start;
+            runs[2 * r + 1] = (char) (end - 1 - start);
+        }
+        return runs;
+    }
+
+    /**
+     * @return first position p' &ge; p (relative to the chunk [from, to[) of a bit equal to value, the number of bits
+     * of the chunk if there is no such bit
+     */
+    private static int nextBit(long[] words, int from, int to, int p, boolean value) {
+        for (int w = from + (p >>> 6); w < to; w++) {
+            long word = value ? words[w] : ~words[w];
+            if (w == from + (p >>> 6)) {
+                word &= -1L << p;
+            }
+            if (word != 0) {
+                return ((w - from) << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return (to - from) << 6;
+    }
+
+    /**
+     * @param k index of a chunk
+     * @return index of the container of the chunk k, -1 if the chunk is empty
+     */
+    int container(int k) {
+        return k < containerOf.length ? containerOf[k] : -1;
+    }
+
+    int type(int c) {
+        return types[c];
+    }
+
+    int card(int c) {
+        return cards[c];
+    }
+
+    /**
+     * @return the sorted positions of the array container c
+     */
+    char[] positions(int c) {
+        return values[c];
+    }
+
+    /**
+     * Check if the bit at the position v of the chunk of the container c is set to 1
+     * @param c index of a container
+     * @param v position in the chunk
+     * @return true if the bit is set to 1
+     */
+    boolean contains(int c, char v) {
+        switch (types[c]) {
+            case BITMAP:
+                return (bitmaps[c][v >>> 6] & (1L << v)) != 0;
+            case ARRAY:
+                return Arrays.binarySearch(values[c], v) >= 0;
+            default:
+                int r = lastRunBefore(values[c], v);
+                return r >= 0 && v - values[c][2 * r] <= values[c][2 * r + 1];
+        }
+    }
+
+    /**
+     * Word w of the chunk of the container c
+     * @param c index of a container
+     * @param w index of the word in the chunk
+     * @return the word
+     */
+    long word(int c, int w) {
+        int lo = w << 6;
+        char[] v = values[c];
+        switch (types[c]) {
+            case BITMAP:
+                return bitmaps[c][w];
+            case ARRAY:
+                long word = 0;
+                for (int i = lowerBound(v, v.length, (char) lo); i < v.length && v[i] < lo + 64; i++) {
+                    word |= 1L << v[i];
+                }
+                return word;
+            default:
+                long runWord = 0;
+                int r = Math.max(0, lastRunBefore(v, (char) lo));
+                for (; 2 * r < v.length && v[2 * r] < lo + 64; r++) {
+                    int start = Math.max(v[2 * r], lo);
+                    int end = Math.min(v[2 * r] + v[2 * r + 1], lo + 63);
+                    if (start > end) continue;
+                    // bits from start to end of the word
+                    runWord |= (-1L >>> (63 - (end - start))) << (start - lo);
+                }
+                return runWord;
+        }
+    }
+
+    /**
+     * @return index of the first position of v[0..size[ which is greater or equal to x
+     */
+    static int lowerBound(char[] v, int size, char x) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (v[mid] < x) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * @return index of the last run whose start is lower or equal to x (-1 if there is no such run)
+     */
+    private static int lastRunBefore(char[] runs, char x) {
+        int lo = 0;
+        int hi = runs.length / 2;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (runs[2 * mid] <= x) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo - 1;
+    }
+
+    /**
+     * @return number of bits set to 1
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Approximate size of the containers in bytes
+     * @return size in bytes
+     */
+    public long getSizeInBytes() {
+        long size = 4L * containerOf.length + 5L * types.length;
+        for (int c = 0; c < types.length; c++) {
+            size += types[c] == BITMAP ? 8L * CHUNK_WORDS : 2L * values[c].length;
+        }
+        return size;
+    }
+
+    public BitSet toBitSet() {
+        BitSet bitSet = new BitSet();
+        for (int k = 0; k < containerOf.length; k++) {
+            int c = containerOf[k];
+            if (c == -1) continue;
+            for (int w = 0; w < CHUNK_WORDS; w++) {
+                long word = word(c, w);
+                while (word != 0) {
+                    bitSet.set(k * CHUNK_SIZE + (w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+        return bitSet;
+    }
+}
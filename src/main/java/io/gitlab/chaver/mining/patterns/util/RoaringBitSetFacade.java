@@ -0,0 +1,93 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.util;
+
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import org.chocosolver.solver.Model;
+
+import java.util.BitSet;
+
+/**
+ * Compressed bitset : the covers of the items are RoaringBitSets shared by all the bitsets of the database (see
+ * TransactionalDatabase.getRoaringCovers()) and the cover is a RRoaringBitSet, which is smaller and faster to
+ * intersect than the words of RSparseBitSetFacade on sparse databases.
+ */
+public class RoaringBitSetFacade implements BitSetFacade {
+
+    private final RoaringBitSet[] columns; // shared by all the bitsets of the database (read-only)
+    private final RRoaringBitSet bitSet;
+
+    public final static String TYPE = "roaring";
+
+    public RoaringBitSetFacade(TransactionalDatabase database, Model model, int nbits) {
+        columns = database.getRoaringCovers();
+        bitSet = new RRoaringBitSet(model, nbits);
+    }
+
+    public RoaringBitSetFacade(TransactionalDatabase database, Model model, long[] words) {
+        columns = database.getRoaringCovers();
+        bitSet = new RRoaringBitSet(model, words);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return bitSet.isEmpty();
+    }
+
+    @Override
+    public int cardinality() {
+        return bitSet.cardinality();
+    }
+
+    @Override
+    public int maskCardinality() {
+        return bitSet.maskCardinality();
+    }
+
+    @Override
+    public void and(int i) {
+        bitSet.and(columns[i]);
+    }
+
+    @Override
+    public int andCount(int i) {
+        return bitSet.andCount(columns[i]);
+    }
+
+    @Override
+    public boolean andCountAtLeast(int i, int k) {
+        return bitSet.andCountAtLeast(columns[i], k);
+    }
+
+    @Override
+    public void andMask(int i) {
+        bitSet.andMask(columns[i]);
+    }
+
+    @Override
+    public void resetMask() {
+        bitSet.resetMask();
+    }
+
+    @Override
+    public boolean isSubsetOf(int i) {
+        return bitSet.isSubsetOf(columns[i]);
+    }
+
+    @Override
+    public boolean maskIsSubsetOf(int i) {
+        return bitSet.maskIsSubsetOf(columns[i]);
+    }
+
+    @Override
+    public BitSet getWords() {
+        return bitSet.toBitSet();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.util;
+
+import static io.gitlab.chaver.mining.patterns.util.RoaringBitSet.ARRAY;
+
+/**
+ * Like a RRoaringBitSet but it is not reversible (used as the mask of a RRoaringBitSet)
+ */
+class RoaringMask extends AbstractRoaringCover {
+
+    private int limit = -1;
+    private final int[] modes;
+    private final int[] cards;
+    private final int[] wordLimits;
+    private final long[][] words;
+
+    RoaringMask(int nbWords) {
+        super(nbWords);
+        modes = new int[index.length];
+        cards = new int[index.length];
+        wordLimits = new int[index.length];
+        words = new long[index.length][];
+    }
+
+    /**
+     * Set the mask to the current value of the bitset (the buffers of the mask are reused)
+     * @param bitSet bitset to copy
+     */
+    void reset(AbstractRoaringCover bitSet) {
+        limit = bitSet.getLimit();
+        System.arraycopy(bitSet.index, 0, index, 0, index.length);
+        for (int i = 0; i <= limit; i++) {
+            int k = index[i];
+            modes[k] = bitSet.getMode(k);
+            cards[k] = bitSet.getCard(k);
+            if (modes[k] == ARRAY) {
+                System.arraycopy(bitSet.positions[k], 0, getPositions(k), 0, cards[k]);
+            }
+            else {
+                int nbChunkWords = getNbWords(k);
+                if (words[k] == null) {
+                    words[k] = new long[nbChunkWords];
+                    wordIndex[k] = new int[nbChunkWords];
+                }
+                for (int w = 0; w < nbChunkWords; w++) {
+                    words[k][w] = bitSet.getWord(k, w);
+                }
+                System.arraycopy(bitSet.wordIndex[k], 0, wordIndex[k], 0, nbChunkWords);
+                wordLimits[k] = bitSet.getWordLimit(k);
+            }
+        }
+    }
+
+    @Override
+    int getLimit() {
+        return limit;
+    }
+
+    @Override
+    void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    @Override
+    int getMode(int k) {
+        return modes[k];
+    }
+
+    @Override
+    void setMode(int k, int mode) {
+        modes[k] = mode;
+    }
+
+    @Override
+    int getCard(int k) {
+        return cards[k];
+    }
+
+    @Override
+    void setCard(int k, int card) {
+        cards[k] = card;
+    }
+
+    @Override
+    long getWord(int k, int w) {
+        return words[k][w];
+    }
+
+    @Override
+    void setWord(int k, int w, long word) {
+        words[k][w] = word;
+    }
+
+    @Override
+    int getWordLimit(int k) {
+        return wordLimits[k];
+    }
+
+    @Override
+    void setWordLimit(int k, int wordLimit) {
+        wordLimits[k] = wordLimit;
+    }
+}
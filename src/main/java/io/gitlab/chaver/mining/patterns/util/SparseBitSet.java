@@ -9,6 +9,7 @@
  */
 package io.gitlab.chaver.mining.patterns.util;
 
+import java.nio.LongBuffer;
 import java.util.BitSet;
 import java.util.stream.IntStream;
 
@@ -42,6 +43,16 @@ public class SparseBitSet {
         return offset < m.length ? m[offset] : 0;
     }
 
+    /**
+     * Return value of specified index offset (absolute read)
+     * @param m buffer of long
+     * @param offset index
+     * @return m.get(offset) if offset < m.limit(), 0 otherwise
+     */
+    private long getValue(LongBuffer m, int offset) {
+        return offset < m.limit() ? m.get(offset) : 0;
+    }
+
     public void and(long[] m) {
         for (int i = limit; i >= 0; i--) {
             int offset = index[i];
@@ -51,6 +62,15 @@ public class SparseBitSet {
         }
     }
 
+    public void and(LongBuffer m) {
+        for (int i = limit; i >= 0; i--) {
+            int offset = index[i];
+            long w = words[offset] & getValue(m, offset);
+            words[offset] = w;
+            checkWords(offset, i);
+        }
+    }
+
     private void checkWords(int offset, int i) {
         if (words[offset] == 0) {
             index[i] = index[limit];
@@ -74,6 +94,16 @@ public class SparseBitSet {
         return true;
     }
 
+    public boolean isSubsetOf(LongBuffer m) {
+        for (int i = 0; i <= limit; i++) {
+            int offset = index[i];
+            if ((~getValue(m, offset) & words[offset]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public int cardinality() {
         int sum = 0;
         for (int i = 0; i <= limit; i++) {
@@ -102,6 +132,45 @@ public class SparseBitSet {
         return sum;
     }
 
+    /**
+     * Check if the number of bits set to 1 in (words AND m) is at least k (words is not modified). The count stops as
+     * soon as k bits are found or when the remaining words can no longer reach k.
+     * @param m array to intersect with
+     * @param k threshold
+     * @return true if |words AND m| &ge; k
+     */
+    public boolean andCountAtLeast(long[] m, int k) {
+        if (k <= 0) return true;
+        int sum = 0;
+        for (int i = limit; i >= 0; i--) {
+            int offset = index[i];
+            sum += Long.bitCount(words[offset] & getValue(m, offset));
+            if (sum >= k) return true;
+            // i words remain, each one has at most 64 bits set to 1
+            if (sum + ((long) i << 6) < k) return false;
+        }
+        return false;
+    }
+
+    /**
+     * Like andCountAtLeast(long[], int) but m is a buffer (e.g. a memory-mapped cover, see and(LongBuffer))
+     * @param m buffer to intersect with
+     * @param k threshold
+     * @return true if |words AND m| &ge; k
+     */
+    public boolean andCountAtLeast(LongBuffer m, int k) {
+        if (k <= 0) return true;
+        int sum = 0;
+        for (int i = limit; i >= 0; i--) {
+            int offset = index[i];
+            sum += Long.bitCount(words[offset] & getValue(m, offset));
+            if (sum >= k) return true;
+            // i words remain, each one has at most 64 bits set to 1
+            if (sum + ((long) i << 6) < k) return false;
+        }
+        return false;
+    }
+
     public BitSet toBitSet() {
         return BitSet.valueOf(words);
     }
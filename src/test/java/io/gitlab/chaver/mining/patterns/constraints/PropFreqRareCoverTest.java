@@ -0,0 +1,300 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.constraints;
+
+import io.gitlab.chaver.mining.patterns.constraints.factory.ConstraintFactory;
+import io.gitlab.chaver.mining.patterns.io.DatReader;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.util.MISCalculator;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.util.ESat;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class PropFreqRareCoverTest {
+
+    /** Max number of bytes allocated by getThreadAllocatedBytes() between two measures */
+    private static final long MAX_BEAN_ALLOCATION = 1024;
+
+    private final String resPath = "src/test/resources/";
+
+    /**
+     * Enumerate all the itemsets x such that freq(x) >= min{MIS(i) | i in x} (only for small databases)
+     */
+    private Set<BitSet> bruteForce(TransactionalDatabase database, int[] mis) {
+        Set<BitSet> expected = new HashSet<>();
+        int nbItems = database.getNbItems();
+        for (int x = 1; x < (1 << nbItems); x++) {
+            BitSet cover = new BitSet(database.getNbTransactions());
+            cover.set(0, database.getNbTransactions());
+            int minMis = Integer.MAX_VALUE;
+            BitSet itemset = new BitSet(nbItems);
+            for (int i = 0; i < nbItems; i++) {
+                if ((x & (1 << i)) != 0) {
+                    cover.and(database.getCover(i));
+                    minMis = Math.min(minMis, mis[i]);
+                    itemset.set(i);
+                }
+            }
+            if (cover.cardinality() >= minMis) {
+                expected.add(itemset);
+            }
+        }
+        return expected;
+    }
+
+    private Map<Integer, BitSet> getItemCovers(TransactionalDatabase database) {
+        Map<Integer, BitSet> itemCovers = new HashMap<>();
+        for (int i = 0; i < database.getNbItems(); i++) {
+            itemCovers.put(i, database.getCover(i));
+        }
+        return itemCovers;
+    }
+
+    private Constraint createConstraint(TransactionalDatabase database, BoolVar[] x, int[] mis, boolean mapCovers) {
+        if (mapCovers) {
+            return new FreqRareConstraint("FreqRare", x, mis, getItemCovers(database), database.getNbTransactions());
+        }
+        return ConstraintFactory.freqRare(database, x, mis);
+    }
+
+    private void testFindFreqRarePatterns(String dataPath, double beta, int misMin) throws IOException {
+        testFindFreqRarePatterns(dataPath, beta, misMin, false);
+        testFindFreqRarePatterns(dataPath, beta, misMin, true);
+    }
+
+    private void testFindFreqRarePatterns(String dataPath, double beta, int misMin, boolean mapCovers)
+            throws IOException {
+        TransactionalDatabase database = new DatReader(dataPath, 0, true).read();
+        int[] mis = new MISCalculator(database, beta, misMin).computeMIS();
+        Model model = new Model("FreqRare test");
+        BoolVar[] x = model.boolVarArray("x", database.getNbItems());
+        Constraint freqRare = createConstraint(database, x, mis, mapCovers);
+        model.post(freqRare);
+        Solver solver = model.getSolver();
+        Set<BitSet> solutions = new HashSet<>();
+        while (solver.solve()) {
+            BitSet itemset = new BitSet(x.length);
+            for (int i = 0; i < x.length; i++) {
+                if (x[i].isInstantiatedTo(1)) itemset.set(i);
+            }
+            solutions.add(itemset);
+            assertEquals(ESat.TRUE, freqRare.isSatisfied());
+        }
+        assertEquals(bruteForce(database, mis), solutions);
+        assertEquals(solutions.size(), solver.getSolutionCount());
+    }
+
+    @Test
+    public void testContextPasquier99() throws IOException {
+        String dataPath = resPath + "contextPasquier99/contextPasquier99.dat";
+        testFindFreqRarePatterns(dataPath, 0.3, 1);
+        testFindFreqRarePatterns(dataPath, 0.6, 1);
+        testFindFreqRarePatterns(dataPath, 1, 2);
+    }
+
+    @Test
+    public void testIris() throws IOException {
+        String dataPath = resPath + "iris/iris.dat";
+        testFindFreqRarePatterns(dataPath, 0.2, 5);
+        testFindFreqRarePatterns(dataPath, 0.5, 10);
+        testFindFreqRarePatterns(dataPath, 0.8, 20);
+    }
+
+    /**
+     * Keep only the closed itemsets (i.e. there is no item j not in x such that cover(x) is a subset of cover(j))
+     */
+    private Set<BitSet> closedItemsets(TransactionalDatabase database, Set<BitSet> itemsets) {
+        Set<BitSet> closed = new HashSet<>();
+        for (BitSet itemset : itemsets) {
+            BitSet cover = new BitSet();
+            cover.set(0, database.getNbTransactions());
+            itemset.stream().forEach(i -> cover.and(database.getCover(i)));
+            boolean isClosed = true;
+            for (int j = 0; j < database.getNbItems() && isClosed; j++) {
+                BitSet diff = (BitSet) cover.clone();
+                diff.andNot(database.getCover(j));
+                if (!itemset.get(j) && diff.isEmpty()) isClosed = false;
+            }
+            if (isClosed) closed.add(itemset);
+        }
+        return closed;
+    }
+
+    private void testFindClosedFreqRarePatterns(String dataPath, double beta, int misMin) throws IOException {
+        TransactionalDatabase database = new DatReader(dataPath, 0, true).read();
+        int[] mis = new MISCalculator(database, beta, misMin).computeMIS();
+        Model model = new Model("ClosedFreqRare test");
+        BoolVar[] x = model.boolVarArray("x", database.getNbItems());
+        model.post(ConstraintFactory.closedFreqRare(database, x, mis));
+        Solver solver = model.getSolver();
+        Set<BitSet> solutions = new HashSet<>();
+        while (solver.solve()) {
+            BitSet itemset = new BitSet(x.length);
+            for (int i = 0; i < x.length; i++) {
+                if (x[i].isInstantiatedTo(1)) itemset.set(i);
+            }
+            solutions.add(itemset);
+        }
+        assertEquals(closedItemsets(database, bruteForce(database, mis)), solutions);
+        assertEquals(solutions.size(), solver.getSolutionCount());
+    }
+
+    @Test
+    public void testClosedFreqRare() throws IOException {
+        testFindClosedFreqRarePatterns(resPath + "contextPasquier99/contextPasquier99.dat", 0.3, 1);
+        testFindClosedFreqRarePatterns(resPath + "contextPasquier99/contextPasquier99.dat", 1, 2);
+        testFindClosedFreqRarePatterns(resPath + "iris/iris.dat", 0.2, 5);
+        testFindClosedFreqRarePatterns(resPath + "iris/iris.dat", 0.5, 10);
+    }
+
+    /**
+     * Item 0 is in all the transactions, item 1 in the first one and item 2 in the first two
+     */
+    private TransactionalDatabase entailmentDatabase() {
+        BitSet[] verticalRepresentation = new BitSet[3];
+        for (int i = 0; i < 3; i++) verticalRepresentation[i] = new BitSet(4);
+        verticalRepresentation[0].set(0, 4);
+        verticalRepresentation[1].set(0);
+        verticalRepresentation[2].set(0, 2);
+        return new TransactionalDatabase(new int[]{0, 1, 2}, new int[0][], 0, verticalRepresentation, 4);
+    }
+
+    @Test
+    public void testEntailment() throws Exception {
+        TransactionalDatabase database = entailmentDatabase();
+        int[] mis = {3, 1, 2};
+        Model model = new Model("FreqRare entailment test");
+        BoolVar[] x = model.boolVarArray("x", 3);
+        Constraint freqRare = ConstraintFactory.freqRare(database, x, mis);
+        model.post(freqRare);
+        Propagator<?> propagator = freqRare.getPropagator(0);
+        model.getSolver().propagate();
+        assertEquals(ESat.UNDEFINED, propagator.isEntailed());
+        assertFalse(propagator.isPassive());
+        model.getEnvironment().worldPush();
+        // x+ = {1} : freq({0, 1, 2}) = 1 >= MIS(1)
+        x[1].setToTrue(Cause.Null);
+        model.getSolver().propagate();
+        assertEquals(ESat.TRUE, propagator.isEntailed());
+        assertTrue(propagator.isPassive());
+        model.getEnvironment().worldPop();
+        assertFalse(propagator.isPassive());
+        model.getEnvironment().worldPush();
+        // x+ = {0} and x- = {1, 2} : freq({0}) = 4 >= MIS(0)
+        x[0].setToTrue(Cause.Null);
+        x[1].setToFalse(Cause.Null);
+        x[2].setToFalse(Cause.Null);
+        assertEquals(ESat.TRUE, propagator.isEntailed());
+        model.getEnvironment().worldPop();
+        model.getEnvironment().worldPush();
+        // x = {} is not a solution
+        for (BoolVar item : x) item.setToFalse(Cause.Null);
+        assertEquals(ESat.FALSE, propagator.isEntailed());
+        model.getEnvironment().worldPop();
+    }
+
+    @Test
+    public void testMinCoverSizeRaisesInEntailedSubtree() throws Exception {
+        TransactionalDatabase database = entailmentDatabase();
+        int[] mis = {3, 1, 2};
+        Model model = new Model("FreqRare min cover size test");
+        BoolVar[] x = model.boolVarArray("x", 3);
+        Constraint freqRare = ConstraintFactory.freqRare(database, x, mis);
+        model.post(freqRare);
+        PropFreqRareCover propagator = (PropFreqRareCover) freqRare.getPropagator(0);
+        propagator.enableMinCoverSizeRaises();
+        model.getSolver().propagate();
+        model.getEnvironment().worldPush();
+        // x+ = {1} is entailed but the propagator stays active
+        x[1].setToTrue(Cause.Null);
+        model.getSolver().propagate();
+        assertEquals(ESat.TRUE, propagator.isEntailed());
+        assertFalse(propagator.isPassive());
+        // the bound rises in the entailed subtree : freq({1, 2}) = 1 < 2
+        propagator.setMinCoverSize(2);
+        x[2].setToTrue(Cause.Null);
+        assertThrows(ContradictionException.class, () -> model.getSolver().propagate());
+    }
+
+    @Test
+    public void testNoAllocationDuringPropagation() throws Exception {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+        TransactionalDatabase database = new DatReader(resPath + "mushroom/mushroom.dat", 0, true).read();
+        int[] mis = new MISCalculator(database, 0.5, 100).computeMIS();
+        int[] itemFreq = database.computeItemFreq();
+        Model model = new Model("FreqRare allocation test");
+        BoolVar[] x = model.boolVarArray("x", database.getNbItems());
+        Constraint freqRare = createConstraint(database, x, mis, true);
+        model.post(freqRare);
+        Solver solver = model.getSolver();
+        solver.propagate();
+        int[] free = IntStream.range(0, x.length).filter(i -> !x[i].isInstantiated()).toArray();
+        // items which can be instantiated to 1 without failure (freq(i) >= MIS(i) >= min MIS of x+ U x*)
+        int[] candidates = IntStream.of(free).filter(i -> itemFreq[i] >= mis[i]).toArray();
+        assertTrue(candidates.length > 0);
+        int nbCalls = 10000;
+        // the first round grows the trail and the queues of the engine
+        instantiateAndBacktrack(model, x, free, candidates, nbCalls);
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        int nbPruned = instantiateAndBacktrack(model, x, free, candidates, nbCalls);
+        long allocatedAfter = threadBean.getThreadAllocatedBytes(threadId);
+        // the filtering (andCountAtLeast and removal of the items) is done inside the measured window
+        assertTrue(nbPruned > 0);
+        // at most the few bytes allocated by the bean itself, whatever the number of calls (a single allocation per
+        // call would be at least nbCalls * 16 bytes)
+        long allocated = allocatedAfter - allocatedBefore;
+        assertTrue(allocated <= MAX_BEAN_ALLOCATION, allocated + " bytes allocated during " + nbCalls + " calls");
+    }
+
+    /**
+     * Instantiate each candidate to 1 in turn, propagate and backtrack
+     * @return number of free items (before the instantiation) instantiated to 0 by the propagations
+     */
+    private int instantiateAndBacktrack(Model model, BoolVar[] x, int[] free, int[] candidates, int nbCalls)
+            throws Exception {
+        int nbPruned = 0;
+        for (int call = 0; call < nbCalls; call++) {
+            model.getEnvironment().worldPush();
+            x[candidates[call % candidates.length]].setToTrue(Cause.Null);
+            model.getSolver().propagate();
+            for (int i : free) {
+                if (x[i].isInstantiatedTo(0)) nbPruned++;
+            }
+            model.getEnvironment().worldPop();
+        }
+        return nbPruned;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.constraints;
+
+import io.gitlab.chaver.mining.patterns.io.DatReader;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.util.MISCalculator;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.variables.BoolVar;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class PropFreqRareTest {
+
+    private final String resPath = "src/test/resources/";
+
+    private final int[][] transactions = {
+            {0, 1, 2, 4}, {0, 2, 3}, {1, 3, 4}, {0, 1, 2}, {2, 3}, {1, 4}, {0, 2, 3}, {1, 2, 3},
+            {0, 4}, {3, 4}, {0, 3, 4}, {1, 3}, {0, 1}, {2, 4}, {0, 2, 4}
+    };
+
+    /**
+     * Enumerate all the itemsets x such that freq(x) >= min{MIS(i) | i in x}
+     */
+    private Set<BitSet> bruteForce(int nbItems, int[] mis, int[][] transactions) {
+        Set<BitSet> expected = new HashSet<>();
+        for (int x = 1; x < (1 << nbItems); x++) {
+            int minMis = Integer.MAX_VALUE;
+            BitSet itemset = new BitSet(nbItems);
+            for (int i = 0; i < nbItems; i++) {
+                if ((x & (1 << i)) != 0) {
+                    minMis = Math.min(minMis, mis[i]);
+                    itemset.set(i);
+                }
+            }
+            int freq = 0;
+            for (int[] transaction : transactions) {
+                BitSet t = new BitSet(nbItems);
+                for (int item : transaction) t.set(item);
+                BitSet inter = (BitSet) itemset.clone();
+                inter.andNot(t);
+                if (inter.isEmpty()) freq++;
+            }
+            if (freq >= minMis) {
+                expected.add(itemset);
+            }
+        }
+        return expected;
+    }
+
+    private Set<BitSet> findFreqRarePatterns(int nbItems, int[] mis, int[][] transactions) {
+        Model model = new Model("FreqRare test");
+        BoolVar[] x = model.boolVarArray("x", nbItems);
+        model.post(new Constraint("FreqRare", new PropFreqRare(x, mis, transactions)));
+        Solver solver = model.getSolver();
+        Set<BitSet> solutions = new HashSet<>();
+        while (solver.solve()) {
+            BitSet itemset = new BitSet(nbItems);
+            for (int i = 0; i < nbItems; i++) {
+                if (x[i].isInstantiatedTo(1)) itemset.set(i);
+            }
+            solutions.add(itemset);
+        }
+        assertEquals(solutions.size(), solver.getSolutionCount());
+        return solutions;
+    }
+
+    @Test
+    public void testSmallDatabase() {
+        int[] mis = {4, 3, 5, 2, 4};
+        assertEquals(bruteForce(5, mis, transactions), findFreqRarePatterns(5, mis, transactions));
+    }
+
+    @Test
+    public void testNoValidItemset() {
+        int[] mis = {16, 16, 16, 16, 16};
+        assertEquals(0, findFreqRarePatterns(5, mis, transactions).size());
+    }
+
+    @Test
+    public void testEmptyItemset() {
+        // each item is frequent, but the empty itemset has no min MIS
+        int[] mis = {1, 1, 1, 1, 1};
+        Model model = new Model("FreqRare empty itemset test");
+        BoolVar[] x = model.boolVarArray("x", 5);
+        model.post(new Constraint("FreqRare", new PropFreqRare(x, mis, transactions)));
+        for (BoolVar item : x) {
+            model.arithm(item, "=", 0).post();
+        }
+        assertFalse(model.getSolver().solve());
+        assertEquals(bruteForce(5, mis, transactions), findFreqRarePatterns(5, mis, transactions));
+        assertFalse(findFreqRarePatterns(5, mis, transactions).contains(new BitSet(5)));
+    }
+
+    @Test
+    public void testContextPasquier99() throws IOException {
+        TransactionalDatabase database = new DatReader(resPath + "contextPasquier99/contextPasquier99.dat", 0, true)
+                .read();
+        int nbItems = database.getNbItems();
+        // Horizontal representation of the database (indices of the items of each transaction)
+        int[][] horizontal = IntStream
+                .range(0, database.getNbTransactions())
+                .mapToObj(t -> IntStream
+                        .range(0, nbItems)
+                        .filter(i -> database.getCover(i).get(t))
+                        .toArray())
+                .toArray(int[][]::new);
+        int[] mis = new MISCalculator(database, 0.6, 1).computeMIS();
+        assertEquals(bruteForce(nbItems, mis, horizontal), findFreqRarePatterns(nbItems, mis, horizontal));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.constraints;
+
+import io.gitlab.chaver.mining.patterns.constraints.factory.ConstraintFactory;
+import io.gitlab.chaver.mining.patterns.io.DatReader;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.util.MISCalculator;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.util.ESat;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PropMISInfrequentSupersTest {
+
+    private final String resPath = "src/test/resources/";
+
+    /**
+     * Enumerate all the itemsets x such that freq(x) >= min{MIS(i) | i in x} (only for small databases)
+     */
+    private Set<BitSet> misFrequentItemsets(TransactionalDatabase database, int[] mis) {
+        Set<BitSet> itemsets = new HashSet<>();
+        int nbItems = database.getNbItems();
+        for (int x = 1; x < (1 << nbItems); x++) {
+            BitSet cover = new BitSet(database.getNbTransactions());
+            cover.set(0, database.getNbTransactions());
+            int minMis = Integer.MAX_VALUE;
+            BitSet itemset = new BitSet(nbItems);
+            for (int i = 0; i < nbItems; i++) {
+                if ((x & (1 << i)) != 0) {
+                    cover.and(database.getCover(i));
+                    minMis = Math.min(minMis, mis[i]);
+                    itemset.set(i);
+                }
+            }
+            if (cover.cardinality() >= minMis) {
+                itemsets.add(itemset);
+            }
+        }
+        return itemsets;
+    }
+
+    /**
+     * Keep only the maximal itemsets (i.e. there is no other itemset in the set which is a superset of x)
+     */
+    private Set<BitSet> maximalItemsets(Set<BitSet> itemsets) {
+        Set<BitSet> maximal = new HashSet<>();
+        for (BitSet itemset : itemsets) {
+            boolean isMaximal = true;
+            for (BitSet other : itemsets) {
+                BitSet diff = (BitSet) itemset.clone();
+                diff.andNot(other);
+                if (!other.equals(itemset) && diff.isEmpty()) {
+                    isMaximal = false;
+                    break;
+                }
+            }
+            if (isMaximal) maximal.add(itemset);
+        }
+        return maximal;
+    }
+
+    private void testFindMaximalFreqRarePatterns(String dataPath, double beta, int misMin) throws IOException {
+        TransactionalDatabase database = new DatReader(dataPath, 0, true).read();
+        int[] mis = new MISCalculator(database, beta, misMin).computeMIS();
+        Model model = new Model("MaximalFreqRare test");
+        BoolVar[] x = model.boolVarArray("x", database.getNbItems());
+        Constraint maximalFreqRare = ConstraintFactory.maximalFreqRare(database, x, mis);
+        model.post(maximalFreqRare);
+        Solver solver = model.getSolver();
+        Set<BitSet> solutions = new HashSet<>();
+        while (solver.solve()) {
+            BitSet itemset = new BitSet(x.length);
+            for (int i = 0; i < x.length; i++) {
+                if (x[i].isInstantiatedTo(1)) itemset.set(i);
+            }
+            solutions.add(itemset);
+            assertEquals(ESat.TRUE, maximalFreqRare.isSatisfied());
+        }
+        assertEquals(maximalItemsets(misFrequentItemsets(database, mis)), solutions);
+        assertEquals(solutions.size(), solver.getSolutionCount());
+    }
+
+    @Test
+    public void testContextPasquier99() throws IOException {
+        String dataPath = resPath + "contextPasquier99/contextPasquier99.dat";
+        testFindMaximalFreqRarePatterns(dataPath, 0.3, 1);
+        testFindMaximalFreqRarePatterns(dataPath, 0.6, 1);
+        testFindMaximalFreqRarePatterns(dataPath, 1, 2);
+    }
+
+    @Test
+    public void testIris() throws IOException {
+        String dataPath = resPath + "iris/iris.dat";
+        testFindMaximalFreqRarePatterns(dataPath, 0.2, 5);
+        testFindMaximalFreqRarePatterns(dataPath, 0.5, 10);
+        testFindMaximalFreqRarePatterns(dataPath, 0.8, 20);
+    }
+}
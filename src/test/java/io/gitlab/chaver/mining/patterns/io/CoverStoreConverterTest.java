@@ -0,0 +1,63 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CoverStoreConverterTest {
+
+    private final String resPath = "src/test/resources/";
+
+    @TempDir
+    Path tempDir;
+
+    private void testConvert(String dataPath, int nbValueMeasures) throws IOException {
+        TransactionalDatabase database = new FastDatReader(dataPath, nbValueMeasures, false).read();
+        Path expected = tempDir.resolve("expected.cov");
+        MappedCoverStore.write(database, expected.toString());
+        // blocks of one word, of a few words and a single block
+        for (int maxBlockWords : new int[]{1, 3, Integer.MAX_VALUE}) {
+            for (int nbThreads : new int[]{1, 4}) {
+                Path path = tempDir.resolve("database.cov");
+                CoverStoreConverter converter = new CoverStoreConverter(dataPath, nbValueMeasures, nbThreads,
+                        maxBlockWords).convert(path.toString());
+                assertEquals(database.getNbItems(), converter.getNbItems());
+                assertEquals(database.getNbTransactions(), converter.getNbTransactions());
+                assertArrayEquals(Files.readAllBytes(expected), Files.readAllBytes(path));
+            }
+        }
+    }
+
+    @Test
+    public void testConvert() throws IOException {
+        testConvert(resPath + "contextPasquier99/contextPasquier99.dat", 0);
+        testConvert(resPath + "iris/iris.dat", 0);
+        testConvert(resPath + "mushroom/mushroom.dat", 0);
+        testConvert(resPath + "read/read.dat", 2);
+    }
+
+    @Test
+    public void testIncorrectFile() throws IOException {
+        Path path = tempDir.resolve("data.dat");
+        Files.write(path, "1 2\n-1 3\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> new CoverStoreConverter(path.toString(), 0, 2)
+                .convert(tempDir.resolve("data.cov").toString()));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.io;
+
+import io.gitlab.chaver.mining.patterns.util.MISCalculator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DatFrequencyCounterTest {
+
+    private final String resPath = "src/test/resources/";
+
+    @TempDir
+    Path tempDir;
+
+    private void testCount(String dataPath) throws IOException {
+        TransactionalDatabase database = new DatReader(dataPath, 0, true).read();
+        for (int nbThreads : new int[]{1, 2, 3, 8}) {
+            DatFrequencyCounter counter = new DatFrequencyCounter(dataPath, nbThreads).count();
+            assertArrayEquals(database.getItems(), counter.getItems());
+            assertArrayEquals(database.computeItemFreq(), counter.getItemFreq());
+            assertEquals(database.getNbTransactions(), counter.getNbTransactions());
+            assertArrayEquals(new MISCalculator(database, 0.3, 2).computeMIS(),
+                    MISCalculator.computeMIS(counter.getItemFreq(), 0.3, 2));
+        }
+    }
+
+    @Test
+    public void testCount() throws IOException {
+        testCount(resPath + "contextPasquier99/contextPasquier99.dat");
+        testCount(resPath + "iris/iris.dat");
+        testCount(resPath + "mushroom/mushroom.dat");
+    }
+
+    @Test
+    public void testCommentsAndDuplicates() throws IOException {
+        Path path = tempDir.resolve("data.dat");
+        // comments, repeated item, several spaces and last line without end of line
+        String data = "# comment\n1 3 3\n\n%2 5\n2  4\t5\r\n@attr\n1 5";
+        Files.write(path, data.getBytes(StandardCharsets.UTF_8));
+        for (int nbThreads : new int[]{1, 2, 5, 64}) {
+            DatFrequencyCounter counter = new DatFrequencyCounter(path.toString(), nbThreads).count();
+            assertArrayEquals(new int[]{1, 2, 3, 4, 5}, counter.getItems());
+            assertArrayEquals(new int[]{2, 1, 1, 1, 2}, counter.getItemFreq());
+            assertEquals(3, counter.getNbTransactions());
+        }
+    }
+
+    @Test
+    public void testLargeItemNames() throws IOException {
+        Path path = tempDir.resolve("large.dat");
+        Files.write(path, "100000000 2147483647\n7 100000000 100000000\n2147483647\n".getBytes(StandardCharsets.UTF_8));
+        for (int nbThreads : new int[]{1, 2, 4}) {
+            DatFrequencyCounter counter = new DatFrequencyCounter(path.toString(), nbThreads).count();
+            assertArrayEquals(new int[]{7, 100000000, Integer.MAX_VALUE}, counter.getItems());
+            assertArrayEquals(new int[]{1, 2, 2}, counter.getItemFreq());
+            assertEquals(3, counter.getNbTransactions());
+        }
+    }
+
+    @Test
+    public void testIncorrectLine() throws IOException {
+        Path path = tempDir.resolve("incorrect.dat");
+        Files.write(path, "1 2\n3 x\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> new DatFrequencyCounter(path.toString(), 2).count());
+    }
+
+    @Test
+    public void testWriteMIS() throws IOException {
+        Path path = tempDir.resolve("data.mis");
+        MISCalculator.writeMIS(path.toString(), new int[]{1, 4, 7}, new int[]{3, 2, 5});
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        assertEquals(Arrays.asList("1 3", "4 2", "7 5"), lines);
+    }
+}
@@ -41,7 +41,7 @@ public class DataReaderTest {
         assertEquals(vRep.length, d.getVerticalRepresentation().length);
         for (int i = 0; i < vRep.length; i++) {
             for (int j = 0; j < vRep[i].length; j++) {
-                assertEquals(vRep[i][j], d.getVerticalRepresentation()[i].get(j));
+                assertEquals(vRep[i][j], d.getCover(i).get(j));
             }
         }
         assertEquals(nbClass, d.getNbClass());
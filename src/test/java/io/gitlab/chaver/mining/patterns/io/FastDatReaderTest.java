@@ -0,0 +1,152 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FastDatReaderTest {
+
+    private final String resPath = "src/test/resources/";
+
+    @TempDir
+    Path tempDir;
+
+    private void assertSameDatabase(TransactionalDatabase expected, TransactionalDatabase actual) {
+        assertArrayEquals(expected.getItems(), actual.getItems());
+        assertEquals(expected.getNbClass(), actual.getNbClass());
+        assertEquals(expected.getNbTransactions(), actual.getNbTransactions());
+        assertArrayEquals(expected.getValues(), actual.getValues());
+        assertArrayEquals(expected.getVerticalRepresentation(), actual.getVerticalRepresentation());
+    }
+
+    @Test
+    public void testSameAsDatReader() throws IOException {
+        String[] dataPaths = {"contextPasquier99/contextPasquier99.dat", "iris/iris.dat", "mushroom/mushroom.dat",
+                "zoo/zoo.dat", "read/read2.dat"};
+        for (String dataPath : dataPaths) {
+            for (boolean noClasses : new boolean[]{true, false}) {
+                assertSameDatabase(new DatReader(resPath + dataPath, 0, noClasses).read(),
+                        new FastDatReader(resPath + dataPath, 0, noClasses).read());
+            }
+        }
+        // with values
+        assertSameDatabase(new DatReader(resPath + "read/read.dat", 2).read(),
+                new FastDatReader(resPath + "read/read.dat", 2).read());
+    }
+
+    @Test
+    public void testSameAsDatReaderOnDatasets() throws IOException {
+        // datasets of the data folder, with their values files if any
+        String[] datasets = {"anneal", "chess", "contextPasquier99", "eisen", "heart-cleveland", "iris", "mushroom"};
+        for (String dataset : datasets) {
+            String dataPath = "data/" + dataset + ".dat";
+            int nbValueMeasures = Files.exists(Paths.get("data/" + dataset + ".val0")) ? 2 : 0;
+            for (boolean noClasses : new boolean[]{true, false}) {
+                TransactionalDatabase database = new DatReader(dataPath, nbValueMeasures, noClasses).read();
+                for (int nbThreads : new int[]{1, 4}) {
+                    assertSameDatabase(database,
+                            new FastDatReader(dataPath, nbValueMeasures, noClasses, nbThreads).read());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNegativeItem() throws IOException {
+        // accepted by DatReader but not by FastDatReader
+        Path path = tempDir.resolve("negative.dat");
+        Files.write(path, "1 -2\n3\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals(2, new DatReader(path.toString()).read().getNbTransactions());
+        assertThrows(IOException.class, () -> new FastDatReader(path.toString()).read());
+    }
+
+    @Test
+    public void testParallelRead() throws IOException {
+        String[] dataPaths = {"contextPasquier99/contextPasquier99.dat", "iris/iris.dat", "mushroom/mushroom.dat"};
+        for (String dataPath : dataPaths) {
+            TransactionalDatabase database = new DatReader(resPath + dataPath, 0, false).read();
+            for (int nbThreads : new int[]{2, 3, 8, 64}) {
+                assertSameDatabase(database, new FastDatReader(resPath + dataPath, 0, false, nbThreads).read());
+            }
+        }
+    }
+
+    @Test
+    public void testCommentsAndDuplicates() throws IOException {
+        Path path = tempDir.resolve("data.dat");
+        String data = "# comment\n2 3 3\n\n%2 5\n1  4\t5\r\n@attr\n2 5";
+        Files.write(path, data.getBytes(StandardCharsets.UTF_8));
+        for (int nbThreads : new int[]{1, 2, 5, 64}) {
+            TransactionalDatabase database = new FastDatReader(path.toString(), 0, false, nbThreads).read();
+            assertArrayEquals(new int[]{1, 2, 3, 4, 5}, database.getItems());
+            assertEquals(3, database.getNbTransactions());
+            // the greatest first item of a transaction is 2
+            assertEquals(2, database.getNbClass());
+            BitSet[] covers = database.getVerticalRepresentation();
+            assertEquals(BitSet.valueOf(new long[]{0b010}), covers[0]);
+            assertEquals(BitSet.valueOf(new long[]{0b101}), covers[1]);
+            assertEquals(BitSet.valueOf(new long[]{0b001}), covers[2]);
+            assertEquals(BitSet.valueOf(new long[]{0b010}), covers[3]);
+            assertEquals(BitSet.valueOf(new long[]{0b110}), covers[4]);
+        }
+    }
+
+    @Test
+    public void testLargeItemNames() throws IOException {
+        // the arrays of the chunks don't depend on the names of the items
+        Path path = tempDir.resolve("large.dat");
+        String data = "100000000 2147483647\n7 100000000\n2147483647\n7\n";
+        Files.write(path, data.getBytes(StandardCharsets.UTF_8));
+        for (int nbThreads : new int[]{1, 2, 4}) {
+            TransactionalDatabase database = new FastDatReader(path.toString(), 0, true, nbThreads).read();
+            assertArrayEquals(new int[]{7, 100000000, Integer.MAX_VALUE}, database.getItems());
+            BitSet[] covers = database.getVerticalRepresentation();
+            assertEquals(BitSet.valueOf(new long[]{0b1010}), covers[0]);
+            assertEquals(BitSet.valueOf(new long[]{0b0011}), covers[1]);
+            assertEquals(BitSet.valueOf(new long[]{0b0101}), covers[2]);
+        }
+    }
+
+    @Test
+    public void testDenseItems() throws IOException {
+        // items 1 and 2 switch to words in each chunk, item 3 keeps its transactions, the chunks don't start at a
+        // multiple of 64 transactions
+        Path path = tempDir.resolve("dense.dat");
+        StringBuilder data = new StringBuilder();
+        for (int t = 0; t < 5000; t++) {
+            data.append(t % 7 == 0 ? "2" : "1 2").append(t % 500 == 0 ? " 3" : "").append(t % 3 == 0 ? " 1" : "")
+                    .append('\n');
+        }
+        Files.write(path, data.toString().getBytes(StandardCharsets.UTF_8));
+        TransactionalDatabase database = new DatReader(path.toString(), 0, false).read();
+        for (int nbThreads : new int[]{1, 3, 7, 64}) {
+            assertSameDatabase(database, new FastDatReader(path.toString(), 0, false, nbThreads).read());
+        }
+    }
+
+    @Test
+    public void testIncorrectLine() throws IOException {
+        Path path = tempDir.resolve("incorrect.dat");
+        Files.write(path, "1 2\n3 x\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> new FastDatReader(path.toString()).read());
+    }
+}
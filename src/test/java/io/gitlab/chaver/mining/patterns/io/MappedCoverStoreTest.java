@@ -0,0 +1,140 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.io;
+
+import io.gitlab.chaver.mining.patterns.constraints.factory.ConstraintFactory;
+import io.gitlab.chaver.mining.patterns.util.BitSetFacade;
+import io.gitlab.chaver.mining.patterns.util.BitSetFactory;
+import io.gitlab.chaver.mining.patterns.util.MISCalculator;
+import io.gitlab.chaver.mining.patterns.util.MappedBitSetFacade;
+import io.gitlab.chaver.mining.patterns.util.RSparseBitSetFacade;
+import io.gitlab.chaver.mining.patterns.util.RoaringBitSetFacade;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.variables.BoolVar;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedCoverStoreTest {
+
+    private final String resPath = "src/test/resources/";
+
+    @TempDir
+    Path tempDir;
+
+    private TransactionalDatabase writeAndOpen(TransactionalDatabase database) throws IOException {
+        String path = tempDir.resolve("database.cov").toString();
+        MappedCoverStore.write(database, path);
+        return new TransactionalDatabase(MappedCoverStore.open(path));
+    }
+
+    private void testReadCovers(String dataPath, boolean noClasses) throws IOException {
+        TransactionalDatabase database = new DatReader(dataPath, 0, noClasses).read();
+        TransactionalDatabase mapped = writeAndOpen(database);
+        assertArrayEquals(database.getItems(), mapped.getItems());
+        assertEquals(database.getNbClass(), mapped.getNbClass());
+        assertEquals(database.getNbTransactions(), mapped.getNbTransactions());
+        assertArrayEquals(database.computeItemFreq(), mapped.computeItemFreq());
+        for (int i = 0; i < database.getNbItems(); i++) {
+            assertEquals(database.getCover(i), mapped.getCover(i));
+        }
+    }
+
+    @Test
+    public void testReadCovers() throws IOException {
+        testReadCovers(resPath + "contextPasquier99/contextPasquier99.dat", true);
+        testReadCovers(resPath + "iris/iris.dat", true);
+        testReadCovers(resPath + "iris/iris.dat", false);
+    }
+
+    private long countSolutions(TransactionalDatabase database, int[] mis, boolean closed) {
+        Model model = new Model("FreqRare");
+        BoolVar[] x = model.boolVarArray("x", database.getNbItems());
+        Constraint freqRare = closed ? ConstraintFactory.closedFreqRare(database, x, mis) :
+                ConstraintFactory.freqRare(database, x, mis);
+        model.post(freqRare);
+        while (model.getSolver().solve());
+        return model.getSolver().getSolutionCount();
+    }
+
+    private void testFreqRare(String dataPath, double beta, int misMin) throws IOException {
+        TransactionalDatabase database = new DatReader(dataPath, 0, true).read();
+        TransactionalDatabase mapped = writeAndOpen(database);
+        int[] mis = new MISCalculator(database, beta, misMin).computeMIS();
+        assertArrayEquals(mis, new MISCalculator(mapped, beta, misMin).computeMIS());
+        assertEquals(countSolutions(database, mis, false), countSolutions(mapped, mis, false));
+        assertEquals(countSolutions(database, mis, true), countSolutions(mapped, mis, true));
+    }
+
+    @Test
+    public void testFreqRare() throws IOException {
+        testFreqRare(resPath + "contextPasquier99/contextPasquier99.dat", 0.3, 1);
+        testFreqRare(resPath + "iris/iris.dat", 0.2, 5);
+        testFreqRare(resPath + "mushroom/mushroom.dat", 0.5, 2000);
+    }
+
+    @Test
+    public void testReadByExtension() throws IOException {
+        TransactionalDatabase database = new DatReader(resPath + "read/read.dat", 2).read();
+        String path = tempDir.resolve("read." + MappedCoverStore.EXTENSION).toString();
+        MappedCoverStore.write(database, path);
+        DataReader reader = DataReader.create(path, 2, false);
+        assertTrue(reader instanceof CoverStoreReader);
+        TransactionalDatabase mapped = reader.read();
+        assertArrayEquals(database.getItems(), mapped.getItems());
+        assertArrayEquals(database.getValues(), mapped.getValues());
+        assertEquals(database.getNbClass(), mapped.getNbClass());
+        assertArrayEquals(database.getVerticalRepresentation(), mapped.getVerticalRepresentation());
+        // the classes can be ignored and the values are only the ones of the required measures
+        TransactionalDatabase noClasses = DataReader.create(path, 1, true).read();
+        assertEquals(0, noClasses.getNbClass());
+        assertArrayEquals(new int[][]{database.getValues()[0]}, noClasses.getValues());
+        assertTrue(DataReader.create(resPath + "read/read.dat", 2, false) instanceof DatReader);
+        assertTrue(DataReader.create(resPath + "read/read.dat", 2, false, 4) instanceof FastDatReader);
+    }
+
+    @Test
+    public void testBitSetType() throws IOException {
+        TransactionalDatabase database = new DatReader(resPath + "iris/iris.dat", 0, false).read();
+        TransactionalDatabase mapped = writeAndOpen(database);
+        Model model = new Model();
+        BitSetFacade cover = BitSetFactory.getBitSet(RSparseBitSetFacade.TYPE, mapped, model);
+        BitSetFacade heapCover = BitSetFactory.getBitSet(RSparseBitSetFacade.TYPE, database, model);
+        assertTrue(cover instanceof MappedBitSetFacade);
+        for (int i = 0; i < database.getNbItems(); i++) {
+            assertEquals(heapCover.andCount(i), cover.andCount(i));
+        }
+        assertEquals(database.getCover(0),
+                BitSetFactory.getBitSet1(RSparseBitSetFacade.TYPE, mapped, model).getWords());
+        assertThrows(RuntimeException.class, () -> BitSetFactory.getBitSet(RoaringBitSetFacade.TYPE, mapped, model));
+        assertThrows(RuntimeException.class, () -> BitSetFactory.getBitSet("dense", mapped, model));
+        assertThrows(RuntimeException.class, () -> BitSetFactory.getBitSet("dense", database, model));
+    }
+
+    @Test
+    public void testTruncatedFile() throws IOException {
+        TransactionalDatabase database = new DatReader(resPath + "iris/iris.dat", 0, true).read();
+        String path = tempDir.resolve("truncated.cov").toString();
+        MappedCoverStore.write(database, path);
+        try (RandomAccessFile file = new RandomAccessFile(path, "rw")) {
+            file.setLength(file.length() - 1);
+        }
+        assertThrows(IOException.class, () -> MappedCoverStore.open(path));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TransactionalDatabaseTest {
+
+    private final String resPath = "src/test/resources/";
+
+    @Test
+    public void testSharedDataset() throws IOException {
+        TransactionalDatabase database = new DatReader(resPath + "iris/iris.dat", 0, false).read();
+        long[][] dataset = database.getDatasetAsLongArray();
+        assertEquals(database.getNbItems(), dataset.length);
+        BitSet[] covers = database.getVerticalRepresentation();
+        for (int i = 0; i < covers.length; i++) {
+            assertEquals((database.getNbTransactions() + 63) / 64, dataset[i].length);
+            assertEquals(covers[i], BitSet.valueOf(dataset[i]));
+        }
+        // the words are the storage of the database, all the calls share them
+        assertSame(dataset, database.getDatasetAsLongArray());
+    }
+
+    @Test
+    public void testMappedCoversNotInHeap(@TempDir Path tempDir) throws IOException {
+        TransactionalDatabase database = new DatReader(resPath + "iris/iris.dat", 0, false).read();
+        String path = tempDir.resolve("iris.cov").toString();
+        MappedCoverStore.write(database, path);
+        TransactionalDatabase mapped = new TransactionalDatabase(MappedCoverStore.open(path));
+        // the components which need all the covers in the heap are rejected instead of copying the dataset
+        assertThrows(RuntimeException.class, mapped::getDatasetAsLongArray);
+        LongBuffer[] columns = mapped.getColumns();
+        long[][] dataset = database.getDatasetAsLongArray();
+        for (int i = 0; i < columns.length; i++) {
+            for (int w = 0; w < dataset[i].length; w++) {
+                assertEquals(dataset[i][w], columns[i].get(w));
+            }
+        }
+        assertArrayEquals(database.getVerticalRepresentation(), mapped.getVerticalRepresentation());
+        assertEquals(database.getCover(0), mapped.getCover(0));
+        assertArrayEquals(database.computeItemFreq(), mapped.computeItemFreq());
+    }
+}
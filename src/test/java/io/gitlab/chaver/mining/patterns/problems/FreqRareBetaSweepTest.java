@@ -0,0 +1,76 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.problems;
+
+import io.gitlab.chaver.mining.patterns.constraints.factory.ConstraintFactory;
+import io.gitlab.chaver.mining.patterns.io.DatReader;
+import io.gitlab.chaver.mining.patterns.io.Pattern;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.util.MISCalculator;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.variables.BoolVar;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FreqRareBetaSweepTest {
+
+    private final String resPath = "src/test/resources/";
+
+    private Set<List<Integer>> findPatterns(TransactionalDatabase database, int[] mis) {
+        Model model = new Model("FreqRare");
+        BoolVar[] x = model.boolVarArray("x", database.getNbItems());
+        model.post(ConstraintFactory.freqRare(database, x, mis));
+        Solver solver = model.getSolver();
+        Set<List<Integer>> patterns = new HashSet<>();
+        while (solver.solve()) {
+            patterns.add(IntStream
+                    .range(0, x.length)
+                    .filter(i -> x[i].isInstantiatedTo(1))
+                    .mapToObj(i -> database.getItems()[i])
+                    .collect(Collectors.toList()));
+        }
+        return patterns;
+    }
+
+    private void testSweep(String dataPath, double[] betas, int misMin) throws IOException {
+        TransactionalDatabase database = new DatReader(dataPath, 0, true).read();
+        List<List<Pattern>> patterns = new FreqRareBetaSweep(database, betas, misMin).mine();
+        assertEquals(betas.length, patterns.size());
+        for (int b = 0; b < betas.length; b++) {
+            int[] mis = new MISCalculator(database, betas[b], misMin).computeMIS();
+            assertArrayEquals(mis, MISCalculator.computeMIS(database, betas, misMin)[b]);
+            Set<List<Integer>> actual = patterns
+                    .get(b)
+                    .stream()
+                    .map(p -> Arrays.stream(p.getItems()).boxed().collect(Collectors.toList()))
+                    .collect(Collectors.toSet());
+            assertEquals(patterns.get(b).size(), actual.size());
+            assertEquals(findPatterns(database, mis), actual);
+        }
+    }
+
+    @Test
+    public void testContextPasquier99() throws IOException {
+        testSweep(resPath + "contextPasquier99/contextPasquier99.dat", new double[]{0.3, 0.6, 1}, 1);
+    }
+
+    @Test
+    public void testIris() throws IOException {
+        testSweep(resPath + "iris/iris.dat", new double[]{0.8, 0.2, 0.5}, 5);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.problems;
+
+import io.gitlab.chaver.mining.patterns.constraints.factory.ConstraintFactory;
+import io.gitlab.chaver.mining.patterns.io.DatReader;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.util.ConstraintSettings;
+import io.gitlab.chaver.mining.patterns.util.MISCalculator;
+import io.gitlab.chaver.mining.patterns.util.RSparseBitSetFacade;
+import io.gitlab.chaver.mining.patterns.util.RoaringBitSetFacade;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.variables.BoolVar;
+import org.junit.jupiter.api.Test;
+import picocli.CommandLine;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FreqRareMiningTest {
+
+    private final String resPath = "src/test/resources/";
+
+    /**
+     * Compute the k best values of the ranking measure by enumerating all the patterns
+     */
+    private int[] topKValues(String dataPath, double beta, int misMin, int k, boolean area) throws Exception {
+        TransactionalDatabase database = new DatReader(dataPath, 0, true).read();
+        int[] mis = new MISCalculator(database, beta, misMin).computeMIS();
+        Model model = new Model("FreqRare");
+        BoolVar[] x = model.boolVarArray("x", database.getNbItems());
+        model.post(ConstraintFactory.freqRare(database, x, mis));
+        Solver solver = model.getSolver();
+        List<Integer> values = new ArrayList<>();
+        while (solver.solve()) {
+            int[] itemset = IntStream.range(0, x.length).filter(i -> x[i].isInstantiatedTo(1)).toArray();
+            int freq = IntStream
+                    .range(0, database.getNbTransactions())
+                    .filter(t -> IntStream.of(itemset).allMatch(i -> database.getCover(i).get(t)))
+                    .map(t -> 1)
+                    .sum();
+            values.add(area ? freq * itemset.length : freq);
+        }
+        return values.stream().sorted(Comparator.reverseOrder()).limit(k).mapToInt(i -> i).toArray();
+    }
+
+    private void testTopK(String dataPath, double beta, int misMin, int k, String rank) throws Exception {
+        testTopK(dataPath, beta, misMin, k, rank, RSparseBitSetFacade.TYPE);
+    }
+
+    private void testTopK(String dataPath, double beta, int misMin, int k, String rank, String bitSetType)
+            throws Exception {
+        FreqRareMining problem = new FreqRareMining();
+        String[] args = {"-d", dataPath, "--beta", Double.toString(beta), "--mismin", Integer.toString(misMin),
+                "--nc", "--topk", Integer.toString(k), "--rank", rank, "--bitset", bitSetType};
+        new CommandLine(problem).execute(args);
+        int measureIdx = rank.equals("freq") ? 0 : 1;
+        int[] actual = problem.getSolutions().stream().mapToInt(p -> p.getMeasures()[measureIdx]).toArray();
+        assertArrayEquals(topKValues(dataPath, beta, misMin, k, rank.equals("area")), actual);
+    }
+
+    @Test
+    public void testTopKContextPasquier99() throws Exception {
+        String dataPath = resPath + "contextPasquier99/contextPasquier99.dat";
+        testTopK(dataPath, 0.3, 1, 5, "freq");
+        testTopK(dataPath, 0.3, 1, 5, "area");
+    }
+
+    @Test
+    public void testTopKIris() throws Exception {
+        String dataPath = resPath + "iris/iris.dat";
+        testTopK(dataPath, 0.2, 5, 10, "freq");
+        testTopK(dataPath, 0.2, 5, 20, "area");
+        testTopK(dataPath, 0.5, 10, 1, "area");
+    }
+
+    @Test
+    public void testBitSetType() throws Exception {
+        String dataPath = resPath + "iris/iris.dat";
+        testTopK(dataPath, 0.2, 5, 10, "freq", RoaringBitSetFacade.TYPE);
+        // the type is given to the constraints of the problem, the default type of the other models doesn't change
+        assertEquals(RSparseBitSetFacade.TYPE, ConstraintSettings.BITSET_TYPE);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.problems;
+
+import io.gitlab.chaver.mining.patterns.constraints.factory.ConstraintFactory;
+import io.gitlab.chaver.mining.patterns.io.DatReader;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import io.gitlab.chaver.mining.patterns.util.MISCalculator;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.variables.BoolVar;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ParallelFreqRareMinerTest {
+
+    private final String resPath = "src/test/resources/";
+
+    private Set<List<Integer>> sequentialMining(TransactionalDatabase database, int[] mis) {
+        Model model = new Model("FreqRare");
+        BoolVar[] x = model.boolVarArray("x", database.getNbItems());
+        model.post(ConstraintFactory.freqRare(database, x, mis));
+        Solver solver = model.getSolver();
+        Set<List<Integer>> patterns = new HashSet<>();
+        while (solver.solve()) {
+            patterns.add(IntStream
+                    .range(0, x.length)
+                    .filter(i -> x[i].isInstantiatedTo(1))
+                    .mapToObj(i -> database.getItems()[i])
+                    .collect(Collectors.toList()));
+        }
+        return patterns;
+    }
+
+    private void testParallelMining(String dataPath, double beta, int misMin) throws Exception {
+        TransactionalDatabase database = new DatReader(dataPath, 0, true).read();
+        int[] mis = new MISCalculator(database, beta, misMin).computeMIS();
+        Set<List<Integer>> expected = sequentialMining(database, mis);
+        for (int nbThreads : new int[]{1, 2, 4}) {
+            Queue<int[]> patterns = new ConcurrentLinkedQueue<>();
+            long nbPatterns = new ParallelFreqRareMiner(database, mis, nbThreads).mine(patterns::add);
+            assertEquals(expected.size(), nbPatterns);
+            assertEquals(expected.size(), patterns.size());
+            Set<List<Integer>> actual = patterns
+                    .stream()
+                    .map(p -> Arrays.stream(p).boxed().collect(Collectors.toList()))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testContextPasquier99() throws Exception {
+        testParallelMining(resPath + "contextPasquier99/contextPasquier99.dat", 0.6, 1);
+    }
+
+    @Test
+    public void testIris() throws Exception {
+        testParallelMining(resPath + "iris/iris.dat", 0.2, 5);
+        testParallelMining(resPath + "iris/iris.dat", 0.8, 20);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.search.strategy.selectors.variables;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.BoolVar;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class MinMisTest {
+
+    @Test
+    public void testSelectionOrder() throws Exception {
+        Model model = new Model();
+        BoolVar[] x = model.boolVarArray("x", 4);
+        int[] mis = {3, 1, 3, 2};
+        int[] itemFreq = {5, 4, 2, 6};
+        MinMis selector = new MinMis(model, mis, itemFreq);
+        assertSame(x[1], selector.getVariable(x));
+        model.getEnvironment().worldPush();
+        x[1].setToTrue(Cause.Null);
+        x[3].setToFalse(Cause.Null);
+        // MIS(0) = MIS(2) but item 2 is less frequent
+        assertSame(x[2], selector.getVariable(x));
+        model.getEnvironment().worldPush();
+        x[2].setToFalse(Cause.Null);
+        assertSame(x[0], selector.getVariable(x));
+        x[0].setToTrue(Cause.Null);
+        assertNull(selector.getVariable(x));
+        // the pointer is restored on backtrack
+        model.getEnvironment().worldPop();
+        model.getEnvironment().worldPop();
+        assertSame(x[1], selector.getVariable(x));
+    }
+
+    @Test
+    public void testTiesByIndex() {
+        Model model = new Model();
+        BoolVar[] x = model.boolVarArray("x", 3);
+        MinMis selector = new MinMis(model, new int[]{2, 2, 2});
+        assertSame(x[0], selector.getVariable(x));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.util;
+
+import io.gitlab.chaver.mining.patterns.constraints.PropCoverSize;
+import io.gitlab.chaver.mining.patterns.constraints.factory.ConstraintFactory;
+import io.gitlab.chaver.mining.patterns.io.DatReader;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FreqRareProjectionTest {
+
+    private final String resPath = "src/test/resources/";
+
+    /**
+     * Find all the FreqRare patterns (original names of the items) and their frequency
+     */
+    private Map<Set<Integer>, Integer> findPatterns(TransactionalDatabase database, int[] mis) {
+        Model model = new Model("FreqRare");
+        BoolVar[] x = model.boolVarArray("x", database.getNbItems());
+        for (int i = 0; i < database.getNbClass(); i++) {
+            model.arithm(x[i], "=", 0).post();
+        }
+        model.post(ConstraintFactory.freqRare(database, x, mis));
+        IntVar freq = model.intVar("freq", 0, database.getNbTransactions());
+        new Constraint("CoverSize", new PropCoverSize(database, freq, x)).post();
+        Solver solver = model.getSolver();
+        Map<Set<Integer>, Integer> patterns = new HashMap<>();
+        while (solver.solve()) {
+            Set<Integer> pattern = new TreeSet<>();
+            IntStream.range(0, x.length)
+                    .filter(i -> x[i].isInstantiatedTo(1))
+                    .forEach(i -> pattern.add(database.getItems()[i]));
+            patterns.put(pattern, freq.getValue());
+        }
+        return patterns;
+    }
+
+    private void testProjection(String dataPath, boolean noClasses, double beta, int misMin) throws IOException {
+        TransactionalDatabase database = new DatReader(dataPath, 0, noClasses).read();
+        int[] mis = new MISCalculator(database, beta, misMin).computeMIS();
+        FreqRareProjection projection = new FreqRareProjection(database, mis);
+        TransactionalDatabase projected = projection.getDatabase();
+        int[] itemIndexes = projection.getItemIndexes();
+        assertEquals(database.getNbClass(), projected.getNbClass());
+        assertTrue(projected.getNbTransactions() <= database.getNbTransactions());
+        int[] itemFreq = database.computeItemFreq();
+        int[] projectedFreq = projected.computeItemFreq();
+        for (int k = projected.getNbClass(); k < itemIndexes.length; k++) {
+            assertEquals(database.getItems()[itemIndexes[k]], projected.getItems()[k]);
+            assertEquals(itemFreq[itemIndexes[k]], projectedFreq[k]);
+        }
+        assertArrayEquals(IntStream.of(itemIndexes).map(i -> mis[i]).toArray(), projection.getMis());
+        assertEquals(findPatterns(database, mis), findPatterns(projected, projection.getMis()));
+    }
+
+    @Test
+    public void testProjection() throws IOException {
+        testProjection(resPath + "contextPasquier99/contextPasquier99.dat", true, 0.3, 1);
+        testProjection(resPath + "contextPasquier99/contextPasquier99.dat", true, 1, 3);
+        testProjection(resPath + "iris/iris.dat", true, 0.2, 5);
+        testProjection(resPath + "iris/iris.dat", false, 0.5, 30);
+        testProjection(resPath + "mushroom/mushroom.dat", true, 0.8, 3000);
+    }
+
+    @Test
+    public void testRemovedItems() throws IOException {
+        TransactionalDatabase database = new DatReader(resPath + "mushroom/mushroom.dat", 0, true).read();
+        int[] mis = new MISCalculator(database, 0.8, 3000).computeMIS();
+        int[] itemFreq = database.computeItemFreq();
+        FreqRareProjection projection = new FreqRareProjection(database, mis);
+        // each item whose frequency is less than the min MIS is removed
+        int minMis = IntStream.of(mis).min().getAsInt();
+        long nbInfrequent = IntStream.of(itemFreq).filter(f -> f < minMis).count();
+        assertTrue(nbInfrequent > 0);
+        assertTrue(database.getNbItems() - projection.getItemIndexes().length >= nbInfrequent);
+    }
+}
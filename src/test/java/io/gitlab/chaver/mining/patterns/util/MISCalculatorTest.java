@@ -0,0 +1,96 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.util;
+
+import io.gitlab.chaver.mining.patterns.io.DatReader;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MISCalculatorTest {
+
+    private final String resPath = "src/test/resources/";
+
+    private double[] betas(TransactionalDatabase database, double beta) {
+        double[] betas = new double[database.getNbItems()];
+        Arrays.fill(betas, beta);
+        return betas;
+    }
+
+    /**
+     * Class-conditional MIS computed with the BitSets of the database
+     */
+    private int classMis(TransactionalDatabase database, int i, double beta, int misMin) {
+        BitSet[] covers = database.getVerticalRepresentation();
+        int bestFreq = covers[i].cardinality();
+        int bestSize = database.getNbTransactions();
+        double bestRatio = -1;
+        for (int k = 0; k < database.getNbClass(); k++) {
+            int size = covers[k].cardinality();
+            if (size == 0) continue;
+            BitSet classCover = (BitSet) covers[i].clone();
+            classCover.and(covers[k]);
+            double ratio = (double) classCover.cardinality() / size;
+            if (ratio > bestRatio) {
+                bestRatio = ratio;
+                bestFreq = classCover.cardinality();
+                bestSize = size;
+            }
+        }
+        return (int) Math.ceil(Math.max(beta * bestFreq, (double) misMin * bestSize / database.getNbTransactions()));
+    }
+
+    @Test
+    public void testClassMIS() throws IOException {
+        TransactionalDatabase database = new DatReader(resPath + "iris/iris.dat", 0, false).read();
+        assertTrue(database.getNbClass() > 1);
+        int[] mis = MISCalculator.computeClassMIS(database, betas(database, 0.5), 30);
+        for (int i = database.getNbClass(); i < database.getNbItems(); i++) {
+            assertEquals(classMis(database, i, 0.5, 30), mis[i]);
+        }
+        // the MIS of an item is at most its MIS computed on the whole database
+        int[] globalMis = new MISCalculator(database, 0.5, 30).computeMIS();
+        for (int i = database.getNbClass(); i < database.getNbItems(); i++) {
+            assertTrue(mis[i] <= globalMis[i]);
+        }
+    }
+
+    @Test
+    public void testNoClass() throws IOException {
+        for (String dataPath : new String[]{"contextPasquier99/contextPasquier99.dat", "mushroom/mushroom.dat"}) {
+            TransactionalDatabase database = new DatReader(resPath + dataPath, 0, true).read();
+            assertArrayEquals(new MISCalculator(database, 0.3, 2).computeMIS(),
+                    MISCalculator.computeClassMIS(database, betas(database, 0.3), 2));
+        }
+    }
+
+    @Test
+    public void testItemBetas() throws IOException {
+        TransactionalDatabase database = new DatReader(resPath + "mushroom/mushroom.dat", 0, true).read();
+        int[] itemFreq = database.computeItemFreq();
+        double[] betas = betas(database, 0.2);
+        // group of the first ten items
+        Arrays.fill(betas, 0, 10, 0.9);
+        int[] mis = MISCalculator.computeMIS(itemFreq, betas, 5);
+        int[] mis02 = MISCalculator.computeMIS(itemFreq, 0.2, 5);
+        int[] mis09 = MISCalculator.computeMIS(itemFreq, 0.9, 5);
+        for (int i = 0; i < mis.length; i++) {
+            assertEquals(i < 10 ? mis09[i] : mis02[i], mis[i]);
+        }
+        assertArrayEquals(mis, MISCalculator.computeClassMIS(database, betas, 5));
+    }
+}
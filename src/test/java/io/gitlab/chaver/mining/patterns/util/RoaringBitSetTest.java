@@ -0,0 +1,168 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.util;
+
+import io.gitlab.chaver.mining.patterns.constraints.factory.ConstraintFactory;
+import io.gitlab.chaver.mining.patterns.io.DatReader;
+import io.gitlab.chaver.mining.patterns.io.TransactionalDatabase;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.variables.BoolVar;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RoaringBitSetTest {
+
+    private final String resPath = "src/test/resources/";
+
+    @AfterEach
+    public void resetBitSetType() {
+        ConstraintSettings.BITSET_TYPE = RSparseBitSetFacade.TYPE;
+    }
+
+    /**
+     * Random bitset of nbits bits : each bit (or each run of bits if runs) is set to 1 with the probability density
+     */
+    private BitSet randomBitSet(Random random, int nbits, double density, boolean runs) {
+        BitSet bitSet = new BitSet(nbits);
+        for (int i = 0; i < nbits; ) {
+            int length = runs ? 1 + random.nextInt(3000) : 1;
+            if (random.nextDouble() < density) {
+                bitSet.set(i, Math.min(nbits, i + length));
+            }
+            i += length;
+        }
+        return bitSet;
+    }
+
+    private long[] toWords(BitSet bitSet, int nbits) {
+        return Arrays.copyOf(bitSet.toLongArray(), (nbits + 63) / 64);
+    }
+
+    @Test
+    public void testContainers() {
+        Random random = new Random(0);
+        int nbits = 3 * 65536 + 100;
+        for (double density : new double[]{0, 0.001, 0.05, 0.5, 1}) {
+            for (boolean runs : new boolean[]{false, true}) {
+                BitSet bitSet = randomBitSet(random, nbits, density, runs);
+                RoaringBitSet roaring = new RoaringBitSet(toWords(bitSet, nbits));
+                assertEquals(bitSet, roaring.toBitSet());
+                assertEquals(bitSet.cardinality(), roaring.cardinality());
+            }
+        }
+        // a sparse bitset is much smaller than its words
+        BitSet sparse = randomBitSet(random, 1_000_000, 0.001, false);
+        assertTrue(new RoaringBitSet(toWords(sparse, 1_000_000)).getSizeInBytes() * 10 < 8 * 15625);
+    }
+
+    @Test
+    public void testSameAsBitSet() {
+        Random random = new Random(1);
+        double[] densities = {0.0005, 0.01, 0.1, 0.5, 0.95, 1};
+        for (int nbits : new int[]{70, 1000, 65536, 200000}) {
+            for (int iter = 0; iter < 20; iter++) {
+                BitSet[] columns = new BitSet[10];
+                RoaringBitSet[] roaringColumns = new RoaringBitSet[columns.length];
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i] = randomBitSet(random, nbits, densities[random.nextInt(densities.length)],
+                            random.nextInt(3) == 0);
+                    roaringColumns[i] = new RoaringBitSet(toWords(columns[i], nbits));
+                }
+                BitSet expected = randomBitSet(random, nbits, densities[random.nextInt(densities.length)],
+                        random.nextBoolean());
+                Model model = new Model();
+                IEnvironment environment = model.getEnvironment();
+                RRoaringBitSet bitSet = new RRoaringBitSet(model, toWords(expected, nbits));
+                Deque<BitSet> saved = new ArrayDeque<>();
+                for (int step = 0; step < 40; step++) {
+                    int i = random.nextInt(columns.length);
+                    int op = random.nextInt(4);
+                    if (op == 0) {
+                        environment.worldPush();
+                        saved.push((BitSet) expected.clone());
+                    }
+                    else if (op == 1 && !saved.isEmpty()) {
+                        environment.worldPop();
+                        expected = saved.pop();
+                    }
+                    else if (op == 2) {
+                        bitSet.and(roaringColumns[i]);
+                        expected.and(columns[i]);
+                    }
+                    else {
+                        bitSet.resetMask();
+                        BitSet mask = (BitSet) expected.clone();
+                        for (int j = 0; j < 3; j++) {
+                            int k = random.nextInt(columns.length);
+                            bitSet.andMask(roaringColumns[k]);
+                            mask.and(columns[k]);
+                            assertEquals(mask.cardinality(), bitSet.maskCardinality());
+                            BitSet diff = (BitSet) mask.clone();
+                            diff.andNot(columns[i]);
+                            assertEquals(diff.isEmpty(), bitSet.maskIsSubsetOf(roaringColumns[i]));
+                        }
+                    }
+                    BitSet and = (BitSet) expected.clone();
+                    and.and(columns[i]);
+                    BitSet diff = (BitSet) expected.clone();
+                    diff.andNot(columns[i]);
+                    int threshold = random.nextInt(expected.cardinality() + 2);
+                    assertEquals(expected, bitSet.toBitSet());
+                    assertEquals(expected.cardinality(), bitSet.cardinality());
+                    assertEquals(expected.isEmpty(), bitSet.isEmpty());
+                    assertEquals(and.cardinality(), bitSet.andCount(roaringColumns[i]));
+                    assertEquals(and.cardinality() >= threshold,
+                            bitSet.andCountAtLeast(roaringColumns[i], threshold));
+                    assertEquals(diff.isEmpty(), bitSet.isSubsetOf(roaringColumns[i]));
+                }
+                while (!saved.isEmpty()) {
+                    environment.worldPop();
+                    assertEquals(saved.pop(), bitSet.toBitSet());
+                }
+            }
+        }
+    }
+
+    private long countSolutions(TransactionalDatabase database, int[] mis, boolean closed, String bitSetType) {
+        ConstraintSettings.BITSET_TYPE = bitSetType;
+        Model model = new Model("FreqRare");
+        BoolVar[] x = model.boolVarArray("x", database.getNbItems());
+        Constraint freqRare = closed ? ConstraintFactory.closedFreqRare(database, x, mis) :
+                ConstraintFactory.freqRare(database, x, mis);
+        model.post(freqRare);
+        while (model.getSolver().solve());
+        return model.getSolver().getSolutionCount();
+    }
+
+    @Test
+    public void testFreqRare() throws IOException {
+        String[] dataPaths = {"contextPasquier99/contextPasquier99.dat", "iris/iris.dat", "zoo/zoo.dat"};
+        for (String dataPath : dataPaths) {
+            TransactionalDatabase database = new DatReader(resPath + dataPath, 0, true).read();
+            int[] mis = new MISCalculator(database, 0.3, 2).computeMIS();
+            for (boolean closed : new boolean[]{false, true}) {
+                assertEquals(countSolutions(database, mis, closed, RSparseBitSetFacade.TYPE),
+                        countSolutions(database, mis, closed, RoaringBitSetFacade.TYPE));
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of io.gitlab.chaver:choco-mining (https://gitlab.com/chaver/choco-mining)
+ *
+ * Copyright (c) 2025, IMT Atlantique
+ *
+ * Licensed under the MIT license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package io.gitlab.chaver.mining.patterns.util;
+
+import org.chocosolver.solver.Model;
+import org.junit.jupiter.api.Test;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SparseBitSetTest {
+
+    /** 10 words, only the words 1, 4 and 9 are non-zero (holes in the sparse index) */
+    private final long[] words = new long[10];
+
+    public SparseBitSetTest() {
+        words[1] = 0xFFL;
+        words[4] = -1L;
+        words[9] = 1L << 63;
+    }
+
+    private int andCount(long[] a, long[] m) {
+        int count = 0;
+        for (int i = 0; i < a.length; i++) {
+            count += Long.bitCount(a[i] & (i < m.length ? m[i] : 0));
+        }
+        return count;
+    }
+
+    /**
+     * Thresholds around the number of bits of a AND m : 0, the exact count, count + 1 and values above the number
+     * of bits of the bitset
+     */
+    private int[] thresholds(int count, int nbWords) {
+        return new int[]{Integer.MIN_VALUE, -1, 0, 1, count - 1, count, count + 1, 64 * nbWords, 64 * nbWords + 1,
+                Integer.MAX_VALUE};
+    }
+
+    private void checkAndCountAtLeast(RSparseBitSet bitSet, SparseBitSet sparseBitSet, long[] expectedWords,
+                                      long[] m) {
+        int count = andCount(expectedWords, m);
+        assertEquals(count, bitSet.andCount(m));
+        assertEquals(count, sparseBitSet.andCount(m));
+        // the LongBuffer variants (memory-mapped covers) have their own loops
+        LongBuffer buffer = LongBuffer.wrap(m);
+        assertEquals(count, bitSet.andCount(buffer));
+        for (int k : thresholds(count, expectedWords.length)) {
+            assertEquals(count >= k, bitSet.andCountAtLeast(m, k), "k = " + k);
+            assertEquals(count >= k, sparseBitSet.andCountAtLeast(m, k), "k = " + k);
+            assertEquals(count >= k, bitSet.andCountAtLeast(buffer, k), "k = " + k);
+            assertEquals(count >= k, sparseBitSet.andCountAtLeast(buffer, k), "k = " + k);
+        }
+    }
+
+    private SparseBitSet createSparseBitSet(long[] initWords) {
+        SparseBitSet sparseBitSet = new SparseBitSet(64 * initWords.length);
+        sparseBitSet.and(initWords);
+        return sparseBitSet;
+    }
+
+    @Test
+    public void testAndCountAtLeast() {
+        RSparseBitSet bitSet = new RSparseBitSet(new Model(), words);
+        SparseBitSet sparseBitSet = createSparseBitSet(words);
+        long[] allOnes = new long[words.length];
+        Arrays.fill(allOnes, -1L);
+        // |words| = 8 + 64 + 1
+        checkAndCountAtLeast(bitSet, sparseBitSet, words, allOnes);
+        assertEquals(73, bitSet.andCount(allOnes));
+        // a single bit in the last non-zero word
+        long[] lastBit = new long[words.length];
+        lastBit[9] = 1L << 63;
+        checkAndCountAtLeast(bitSet, sparseBitSet, words, lastBit);
+        // m shorter than the bitset : the missing words are 0
+        checkAndCountAtLeast(bitSet, sparseBitSet, words, new long[]{-1L, 0x0FL});
+        checkAndCountAtLeast(bitSet, sparseBitSet, words, new long[0]);
+        // and() removes the word 4 from the sparse index
+        long[] m = allOnes.clone();
+        m[4] = 0;
+        bitSet.and(m);
+        sparseBitSet.and(m);
+        long[] remaining = words.clone();
+        remaining[4] = 0;
+        checkAndCountAtLeast(bitSet, sparseBitSet, remaining, allOnes);
+        checkAndCountAtLeast(bitSet, sparseBitSet, remaining, lastBit);
+    }
+
+    @Test
+    public void testRandomAndCountAtLeast() {
+        Random random = new Random(0);
+        for (int iter = 0; iter < 200; iter++) {
+            long[] initWords = new long[1 + random.nextInt(20)];
+            for (int w = 0; w < initWords.length; w++) {
+                // about half of the words are 0
+                initWords[w] = random.nextBoolean() ? 0 : random.nextLong() & random.nextLong();
+            }
+            RSparseBitSet bitSet = new RSparseBitSet(new Model(), initWords);
+            SparseBitSet sparseBitSet = createSparseBitSet(initWords);
+            for (int j = 0; j < 5; j++) {
+                long[] m = new long[random.nextInt(initWords.length + 1)];
+                for (int w = 0; w < m.length; w++) {
+                    m[w] = random.nextLong() | random.nextLong();
+                }
+                checkAndCountAtLeast(bitSet, sparseBitSet, initWords, m);
+            }
+        }
+    }
+}